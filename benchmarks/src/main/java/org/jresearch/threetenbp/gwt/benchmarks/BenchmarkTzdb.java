@@ -0,0 +1,48 @@
+package org.jresearch.threetenbp.gwt.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesProvider;
+import org.jresearch.threetenbp.gwt.tzdb.client.zone.TzdbZoneRulesProvider;
+
+/**
+ * Registers the bundled TZDB data with the emulated
+ * {@link ZoneRulesProvider}. In the browser it is done by the GWT zone rule
+ * providers of {@code Support}, on the JVM {@code Support} has no script to
+ * load and no GWT provider, so the provider is registered directly.
+ */
+final class BenchmarkTzdb {
+
+	static final String TZDB_RESOURCE = "org/jresearch/threetenbp/gwt/tzdb/client/loader/TZDB.dat";
+
+	private static boolean registered = false;
+
+	private BenchmarkTzdb() {
+		// prevent instantiation
+	}
+
+	static byte[] load() throws IOException {
+		try (InputStream in = BenchmarkTzdb.class.getClassLoader().getResourceAsStream(TZDB_RESOURCE)) {
+			if (in == null) {
+				throw new IOException("Unable to find " + TZDB_RESOURCE);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	static synchronized void register() throws IOException {
+		if (!registered) {
+			ZoneRulesProvider.registerProvider(new TzdbZoneRulesProvider(ByteBuffer.wrap(load())));
+			registered = true;
+		}
+	}
+
+}
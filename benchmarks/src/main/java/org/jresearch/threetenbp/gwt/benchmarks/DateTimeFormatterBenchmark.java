@@ -0,0 +1,55 @@
+package org.jresearch.threetenbp.gwt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ISO and numeric pattern formatters. The text fields (month names, ...) need
+ * the browser {@code Intl} data and are not covered on the JVM.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeFormatterBenchmark {
+
+	private static final DateTimeFormatter PATTERN = DateTimeFormatter.ofPattern("dd.MM.uuuu HH:mm:ss.SSS");
+
+	private LocalDateTime dateTime = LocalDateTime.of(2019, 6, 15, 13, 45, 30, 123_000_000);
+	private String isoText = "2019-06-15T13:45:30.123";
+	private String patternText = "15.06.2019 13:45:30.123";
+
+	@Benchmark
+	public String formatIso() {
+		return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+	}
+
+	@Benchmark
+	public String formatPattern() {
+		return PATTERN.format(dateTime);
+	}
+
+	@Benchmark
+	public LocalDateTime parseIso() {
+		return LocalDateTime.parse(isoText, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+	}
+
+	@Benchmark
+	public LocalDateTime parsePattern() {
+		return LocalDateTime.parse(patternText, PATTERN);
+	}
+
+}
@@ -0,0 +1,50 @@
+package org.jresearch.threetenbp.gwt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocalDateBenchmark {
+
+	private int year = 2019;
+	private int month = 6;
+	private int day = 15;
+	private long days = 400;
+	private LocalDate date = LocalDate.of(2019, 6, 15);
+
+	@Benchmark
+	public LocalDate of() {
+		return LocalDate.of(year, month, day);
+	}
+
+	@Benchmark
+	public LocalDate plusDays() {
+		return date.plusDays(days);
+	}
+
+	@Benchmark
+	public long toEpochDay() {
+		return date.toEpochDay();
+	}
+
+	@Benchmark
+	public LocalDate ofEpochDay() {
+		return LocalDate.ofEpochDay(days * 45);
+	}
+
+}
@@ -0,0 +1,43 @@
+package org.jresearch.threetenbp.gwt.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.jresearch.threetenbp.gwt.tzdb.client.zone.TzdbZoneRulesProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the index of the bundled TZDB data, the rules are materialized on
+ * first use of a zone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TzdbLoadBenchmark {
+
+	private byte[] data;
+
+	@Setup
+	public void setup() throws IOException {
+		data = BenchmarkTzdb.load();
+	}
+
+	@Benchmark
+	public TzdbZoneRulesProvider load() {
+		return new TzdbZoneRulesProvider(ByteBuffer.wrap(data));
+	}
+
+}
@@ -0,0 +1,77 @@
+package org.jresearch.threetenbp.gwt.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Zone conversions with the TZDB {@code StandardZoneRules}. The historic
+ * instant is resolved by the transition arrays, the recent one by the last
+ * rules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneBenchmark {
+
+	@Param({ "Europe/Paris", "America/New_York", "Australia/Sydney" })
+	private String zoneId;
+
+	@Param({ "-1000000000", "1700000000" })
+	private long epochSecond;
+
+	private ZoneId zone;
+	private ZoneRules rules;
+	private Instant instant;
+	private LocalDateTime localDateTime;
+
+	@Setup
+	public void setup() throws IOException {
+		BenchmarkTzdb.register();
+		zone = ZoneId.of(zoneId);
+		rules = zone.getRules();
+		instant = Instant.ofEpochSecond(epochSecond);
+		localDateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+	}
+
+	@Benchmark
+	public ZonedDateTime zonedDateTimeOfInstant() {
+		return ZonedDateTime.ofInstant(instant, zone);
+	}
+
+	@Benchmark
+	public ZonedDateTime zonedDateTimeOfLocal() {
+		return ZonedDateTime.of(localDateTime, zone);
+	}
+
+	@Benchmark
+	public ZoneOffset rulesGetOffsetInstant() {
+		return rules.getOffset(instant);
+	}
+
+	@Benchmark
+	public ZoneOffset rulesGetOffsetLocal() {
+		return rules.getOffset(localDateTime);
+	}
+
+}
@@ -0,0 +1,15 @@
+package org.jresearch.threetenbp.gwt.bench.client;
+
+/**
+ * One measured operation.
+ */
+@FunctionalInterface
+public interface BenchmarkCase {
+
+	/**
+	 * @param iteration - the iteration number, to vary the input
+	 * @return the result, kept so the compiler can not remove the operation
+	 */
+	Object run(int iteration);
+
+}
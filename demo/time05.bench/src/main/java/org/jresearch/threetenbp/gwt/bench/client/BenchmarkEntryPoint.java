@@ -0,0 +1,24 @@
+package org.jresearch.threetenbp.gwt.bench.client;
+
+import com.google.gwt.core.client.EntryPoint;
+
+import elemental2.dom.DomGlobal;
+import jsinterop.base.Js;
+
+public class BenchmarkEntryPoint implements EntryPoint {
+
+	private static final int SAMPLES = 10;
+	private static final int ITERATIONS = 2000;
+
+	@Override
+	public void onModuleLoad() {
+		TimeBenchmarks.create(SAMPLES, ITERATIONS).run(report -> {
+			DomGlobal.document.getElementById("report").textContent = report;
+			// for headless runners
+			Js.asPropertyMap(DomGlobal.window).set("gwtTimeBenchmarkReport", report);
+			DomGlobal.console.log(report);
+			DomGlobal.document.getElementById("status").innerHTML = "done";
+		});
+	}
+
+}
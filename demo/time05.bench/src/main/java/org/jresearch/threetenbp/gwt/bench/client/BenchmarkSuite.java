@@ -0,0 +1,197 @@
+package org.jresearch.threetenbp.gwt.bench.client;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jresearch.threetenbp.gwt.time.client.Support;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
+import com.google.gwt.user.client.Window;
+
+/**
+ * Runs the cases in the compiled script and reports the timings as JSON. Each
+ * case is warmed up with one batch of iterations, then measured in samples of
+ * the same batch. One sample runs per scheduler slice, so the browser stays
+ * responsive.
+ */
+public class BenchmarkSuite {
+
+	/** Results of the operations, keeps them alive in the compiled script */
+	private static Object sink;
+
+	private final String name;
+	private final List<Entry> entries = new ArrayList<>();
+	private final List<Result> results = new ArrayList<>();
+
+	public BenchmarkSuite(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Adds a case measured in {@code samples} batches of {@code iterations}
+	 */
+	public BenchmarkSuite add(String caseName, int samples, int iterations, BenchmarkCase operation) {
+		entries.add(new Entry(caseName, samples, iterations, true, operation));
+		return this;
+	}
+
+	/**
+	 * Adds a case measured only once without warm up (initialization)
+	 */
+	public BenchmarkSuite addOnce(String caseName, BenchmarkCase operation) {
+		entries.add(new Entry(caseName, 1, 1, false, operation));
+		return this;
+	}
+
+	/**
+	 * Runs the cases in the order they were added
+	 *
+	 * @param onDone - called with the JSON report
+	 */
+	public void run(Consumer<String> onDone) {
+		// the clock function is in the support script
+		Support.init();
+		results.clear();
+		Scheduler.get().scheduleIncremental(new Runner(onDone));
+	}
+
+	private static double measure(Entry entry) {
+		// double with the sub-millisecond fraction, the float timestamp rounds the
+		// epoch milliseconds to minutes
+		double start = Support.getEpochMillis();
+		for (int i = 0; i < entry.iterations; i++) {
+			sink = entry.operation.run(i);
+		}
+		return Support.getEpochMillis() - start;
+	}
+
+	/**
+	 * @return the report, the times are in nanoseconds per operation
+	 */
+	String toJson(String userAgent) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"suite\":").append(quote(name));
+		json.append(",\"userAgent\":").append(quote(userAgent));
+		json.append(",\"timestamp\":").append(quote(Instant.now().toString()));
+		json.append(",\"results\":[");
+		for (int i = 0; i < results.size(); i++) {
+			Result result = results.get(i);
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"name\":").append(quote(result.name));
+			json.append(",\"samples\":").append(result.samples);
+			json.append(",\"iterations\":").append(result.iterations);
+			json.append(",\"meanNs\":").append(Math.round(result.meanNs));
+			json.append(",\"minNs\":").append(Math.round(result.minNs));
+			json.append('}');
+		}
+		json.append("]}");
+		return json.toString();
+	}
+
+	private static String quote(String value) {
+		if (value == null) {
+			return "null";
+		}
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\') {
+				quoted.append('\\').append(ch);
+			} else if (ch < ' ') {
+				String hex = Integer.toHexString(ch);
+				quoted.append("\\u0000", 0, 6 - hex.length()).append(hex);
+			} else {
+				quoted.append(ch);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	List<Result> getResults() {
+		return results;
+	}
+
+	private final class Runner implements RepeatingCommand {
+
+		private final Consumer<String> onDone;
+		private int entryIndex;
+		private int sample = -1;
+		private double totalMillis;
+		private double minMillis;
+
+		Runner(Consumer<String> onDone) {
+			this.onDone = onDone;
+		}
+
+		@Override
+		public boolean execute() {
+			if (entryIndex >= entries.size()) {
+				onDone.accept(toJson(Window.Navigator.getUserAgent()));
+				return false;
+			}
+			Entry entry = entries.get(entryIndex);
+			if (sample < 0) {
+				if (entry.warmup) {
+					measure(entry);
+				}
+				sample = 0;
+				totalMillis = 0;
+				minMillis = Double.MAX_VALUE;
+				return true;
+			}
+			double millis = measure(entry);
+			totalMillis += millis;
+			minMillis = Math.min(minMillis, millis);
+			if (++sample == entry.samples) {
+				double toNs = 1_000_000d / entry.iterations;
+				results.add(new Result(entry.name, entry.samples, entry.iterations, totalMillis / entry.samples * toNs, minMillis * toNs));
+				entryIndex++;
+				sample = -1;
+			}
+			return true;
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final String name;
+		private final int samples;
+		private final int iterations;
+		private final boolean warmup;
+		private final BenchmarkCase operation;
+
+		Entry(String name, int samples, int iterations, boolean warmup, BenchmarkCase operation) {
+			this.name = name;
+			this.samples = samples;
+			this.iterations = iterations;
+			this.warmup = warmup;
+			this.operation = operation;
+		}
+
+	}
+
+	static final class Result {
+
+		final String name;
+		final int samples;
+		final int iterations;
+		final double meanNs;
+		final double minNs;
+
+		Result(String name, int samples, int iterations, double meanNs, double minNs) {
+			this.name = name;
+			this.samples = samples;
+			this.iterations = iterations;
+			this.meanNs = meanNs;
+			this.minNs = minNs;
+		}
+
+	}
+
+}
@@ -0,0 +1,68 @@
+package org.jresearch.threetenbp.gwt.bench.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * The fixed benchmark suite: TZDB initialization, formatting, parsing, zone
+ * conversion and {@link Period}/{@link Duration} math. The inputs cycle
+ * through {@value #INPUTS} precomputed values.
+ */
+public final class TimeBenchmarks {
+
+	private static final int INPUTS = 16;
+	private static final int MASK = INPUTS - 1;
+
+	private final LocalDate[] dates = new LocalDate[INPUTS];
+	private final LocalDateTime[] dateTimes = new LocalDateTime[INPUTS];
+	private final Instant[] instants = new Instant[INPUTS];
+	private final String[] isoTexts = new String[INPUTS];
+	private final String[] patternTexts = new String[INPUTS];
+	private final DateTimeFormatter pattern = DateTimeFormatter.ofPattern("dd MMM uuuu HH:mm:ss", Locale.ENGLISH);
+	private ZoneId paris;
+	private ZoneId newYork;
+
+	private TimeBenchmarks() {
+		for (int i = 0; i < INPUTS; i++) {
+			dates[i] = LocalDate.of(1990 + 3 * i, 1 + (7 * i) % 12, 1 + (5 * i) % 28);
+			dateTimes[i] = dates[i].atTime(i, 3 * i, 2 * i, 1_000_000 * i);
+			instants[i] = Instant.ofEpochSecond(631152000L + 98765432L * i);
+			isoTexts[i] = dateTimes[i].toString();
+			patternTexts[i] = pattern.format(dateTimes[i]);
+		}
+	}
+
+	/**
+	 * @param samples    - measured batches per case
+	 * @param iterations - operations per batch
+	 */
+	public static BenchmarkSuite create(int samples, int iterations) {
+		TimeBenchmarks b = new TimeBenchmarks();
+		return new BenchmarkSuite("gwt-time")
+				// first, while no zone has been used
+				.addOnce("tzdb.init", i -> {
+					b.paris = ZoneId.of("Europe/Paris");
+					b.newYork = ZoneId.of("America/New_York");
+					return b.paris;
+				})
+				.add("format.iso", samples, iterations, i -> DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(b.dateTimes[i & MASK]))
+				.add("format.pattern", samples, iterations, i -> b.pattern.format(b.dateTimes[i & MASK]))
+				.add("parse.iso", samples, iterations, i -> LocalDateTime.parse(b.isoTexts[i & MASK]))
+				.add("parse.pattern", samples, iterations, i -> LocalDateTime.parse(b.patternTexts[i & MASK], b.pattern))
+				.add("zone.ofInstant", samples, iterations, i -> ZonedDateTime.ofInstant(b.instants[i & MASK], b.paris))
+				.add("zone.ofLocal", samples, iterations, i -> ZonedDateTime.of(b.dateTimes[i & MASK], b.newYork))
+				.add("zone.withZoneSameInstant", samples, iterations, i -> ZonedDateTime.of(b.dateTimes[i & MASK], b.paris).withZoneSameInstant(b.newYork))
+				.add("period.between", samples, iterations, i -> Period.between(b.dates[i & MASK], b.dates[(i + 5) & MASK]))
+				.add("period.plus", samples, iterations, i -> b.dates[i & MASK].plus(Period.of(1, i & 11, i & 27)))
+				.add("duration.between", samples, iterations, i -> Duration.between(b.instants[i & MASK], b.instants[(i + 3) & MASK]))
+				.add("duration.math", samples, iterations, i -> Duration.ofSeconds(i).multipliedBy(3).plusMillis(250).toMinutes());
+	}
+
+}
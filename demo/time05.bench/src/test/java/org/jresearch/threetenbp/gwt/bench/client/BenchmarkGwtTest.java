@@ -0,0 +1,32 @@
+package org.jresearch.threetenbp.gwt.bench.client;
+
+import org.junit.Test;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Runs the benchmark suite headless (HtmlUnit) with a small batch and prints
+ * the JSON report.
+ */
+public class BenchmarkGwtTest extends GWTTestCase {
+
+	@Override
+	public String getModuleName() {
+		return "org.jresearch.threetenbp.gwt.bench.module_test";
+	}
+
+	@Test
+	public void testSuite() {
+		BenchmarkSuite suite = TimeBenchmarks.create(3, 50);
+		delayTestFinish(25000);
+		suite.run(report -> {
+			assertTrue(report.startsWith("{\"suite\":\"gwt-time\""));
+			assertTrue(report.contains("\"name\":\"tzdb.init\""));
+			assertEquals(12, suite.getResults().size());
+			suite.getResults().forEach(r -> assertTrue(r.name, r.meanNs >= 0));
+			System.out.println(report);
+			finishTest();
+		});
+	}
+
+}
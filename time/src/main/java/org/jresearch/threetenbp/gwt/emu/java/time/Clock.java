@@ -37,6 +37,9 @@ import java.io.Serializable;
 import java.util.Objects;
 import java.util.TimeZone;
 
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.PerformanceClock;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+
 /**
  * A clock providing access to the current instant, date and time using a time-zone.
  * <p>
@@ -427,10 +430,18 @@ public abstract class Clock {
         }
         @Override
         public long millis() {
+            //GWT specific
+            if (Support.isHighResolutionClock()) {
+                return (long) Math.floor(Support.getEpochMillis());
+            }
             return System.currentTimeMillis();
         }
         @Override
         public Instant instant() {
+            //GWT specific
+            if (Support.isHighResolutionClock()) {
+                return PerformanceClock.ofEpochMilli(Support.getEpochMillis());
+            }
             return Instant.ofEpochMilli(millis());
         }
         @Override
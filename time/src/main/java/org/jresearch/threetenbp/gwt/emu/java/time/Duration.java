@@ -51,9 +51,8 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.Temporal;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAmount;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 
-import com.google.gwt.regexp.shared.MatchResult;
-import com.google.gwt.regexp.shared.RegExp;
 
 /**
  * A time-based amount of time, such as '34.5 seconds'.
@@ -106,12 +105,10 @@ public final class Duration
      */
     private static final BigInteger BI_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
     /**
-     * The pattern for parsing.
+     * The number of digits always parsed without the overflow check.
      */
-    private final static RegExp PATTERN =
-    		RegExp.compile("([-+]?)P(?:([-+]?[0-9]+)D)?" +
-                    "(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)?",
-                    "i");
+    // GWT specific
+    private static final int SAFE_DIGITS = 15;
 
     /**
      * The number of seconds in the duration.
@@ -136,7 +133,7 @@ public final class Duration
      * @throws ArithmeticException if the input days exceeds the capacity of {@code Duration}
      */
     public static Duration ofDays(long days) {
-        return create(Math.multiplyExact(days, SECONDS_PER_DAY), 0);
+        return create(EpochMath.multiplyExact(days, SECONDS_PER_DAY), 0);
     }
 
     /**
@@ -151,7 +148,7 @@ public final class Duration
      * @throws ArithmeticException if the input hours exceeds the capacity of {@code Duration}
      */
     public static Duration ofHours(long hours) {
-        return create(Math.multiplyExact(hours, SECONDS_PER_HOUR), 0);
+        return create(EpochMath.multiplyExact(hours, SECONDS_PER_HOUR), 0);
     }
 
     /**
@@ -166,7 +163,7 @@ public final class Duration
      * @throws ArithmeticException if the input minutes exceeds the capacity of {@code Duration}
      */
     public static Duration ofMinutes(long minutes) {
-        return create(Math.multiplyExact(minutes, SECONDS_PER_MINUTE), 0);
+        return create(EpochMath.multiplyExact(minutes, SECONDS_PER_MINUTE), 0);
     }
 
     //-----------------------------------------------------------------------
@@ -202,8 +199,8 @@ public final class Duration
      * @throws ArithmeticException if the adjustment causes the seconds to exceed the capacity of {@code Duration}
      */
     public static Duration ofSeconds(long seconds, long nanoAdjustment) {
-        long secs = Math.addExact(seconds, Math.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
-        int nos = (int) Math.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        long secs = EpochMath.addExact(seconds, EpochMath.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = (int) EpochMath.floorMod(nanoAdjustment, NANOS_PER_SECOND);
         return create(secs, nos);
     }
 
@@ -389,67 +386,159 @@ public final class Duration
      */
     public static Duration parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        MatchResult result = PATTERN.exec(text.toString());
-        if (result != null) {
-            // check for letter T but no time sections
-            if ("T".equals(result.getGroup(3)) == false) {
-                boolean negate = "-".equals(result.getGroup(1));
-                String dayMatch = result.getGroup(2);
-                String hourMatch = result.getGroup(4);
-                String minuteMatch = result.getGroup(5);
-                String secondMatch = result.getGroup(6);
-                String fractionMatch = result.getGroup(7);
-                if (dayMatch != null || hourMatch != null || minuteMatch != null || secondMatch != null) {
-                    long daysAsSecs = parseNumber(text, dayMatch, SECONDS_PER_DAY, "days");
-                    long hoursAsSecs = parseNumber(text, hourMatch, SECONDS_PER_HOUR, "hours");
-                    long minsAsSecs = parseNumber(text, minuteMatch, SECONDS_PER_MINUTE, "minutes");
-                    long seconds = parseNumber(text, secondMatch, 1, "seconds");
-                    boolean negativeSecs = secondMatch != null && secondMatch.charAt(0) == '-';
-                    int nanos = parseFraction(text,  fractionMatch, negativeSecs ? -1 : 1);
-                    try {
-                        return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
-                    } catch (ArithmeticException ex) {
-                        throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
+        // GWT specific: scans ([-+]?)P(?:([-+]?[0-9]+)D)?(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?
+        // (?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)? case insensitive without the regular expression
+        int length = text.length();
+        int pos = 0;
+        boolean negate = false;
+        if (pos < length && isSign(text.charAt(pos))) {
+            negate = text.charAt(pos) == '-';
+            pos++;
+        }
+        if (pos == length || isLetter(text.charAt(pos), 'P') == false) {
+            throw new DateTimeParseException("Text cannot be parsed to a Duration", text, 0);
+        }
+        pos++;
+        // the start and end of the numbers, -1 if absent
+        int dayStart = -1, dayEnd = -1, hourStart = -1, hourEnd = -1, minuteStart = -1, minuteEnd = -1;
+        int secondStart = -1, secondEnd = -1, fractionStart = -1, fractionEnd = -1;
+        int numberEnd = numberEnd(text, pos, length);
+        if (numberEnd > 0 && numberEnd < length && isLetter(text.charAt(numberEnd), 'D')) {
+            dayStart = pos;
+            dayEnd = numberEnd;
+            pos = numberEnd + 1;
+        }
+        if (pos < length && isLetter(text.charAt(pos), 'T')) {
+            boolean upperCaseT = text.charAt(pos) == 'T';
+            pos++;
+            // the index of the next allowed section, H, M and S
+            int section = 0;
+            while (pos < length) {
+                numberEnd = numberEnd(text, pos, length);
+                if (numberEnd < 0 || numberEnd == length) {
+                    break;
+                }
+                char suffix = text.charAt(numberEnd);
+                if (section == 0 && isLetter(suffix, 'H')) {
+                    hourStart = pos;
+                    hourEnd = numberEnd;
+                    section = 1;
+                } else if (section <= 1 && isLetter(suffix, 'M')) {
+                    minuteStart = pos;
+                    minuteEnd = numberEnd;
+                    section = 2;
+                } else if (section <= 2 && (isLetter(suffix, 'S') || suffix == '.' || suffix == ',')) {
+                    int end = numberEnd;
+                    if (suffix == '.' || suffix == ',') {
+                        fractionStart = ++end;
+                        while (end < length && end - fractionStart < 10 && isDigit(text.charAt(end))) {
+                            end++;
+                        }
+                        fractionEnd = end;
+                        if (end == length || fractionEnd - fractionStart > 9 || isLetter(text.charAt(end), 'S') == false) {
+                            break;
+                        }
                     }
+                    secondStart = pos;
+                    secondEnd = numberEnd;
+                    pos = end + 1;
+                    section = 3;
+                    break;
+                } else {
+                    break;
                 }
+                pos = numberEnd + 1;
+            }
+            // check for letter T but no time sections, as Java SE only the upper case one
+            if (section == 0 && upperCaseT) {
+                pos = -1;
+            }
+        }
+        if (pos == length && (dayStart >= 0 || hourStart >= 0 || minuteStart >= 0 || secondStart >= 0)) {
+            long daysAsSecs = parseNumber(text, dayStart, dayEnd, SECONDS_PER_DAY, "days");
+            long hoursAsSecs = parseNumber(text, hourStart, hourEnd, SECONDS_PER_HOUR, "hours");
+            long minsAsSecs = parseNumber(text, minuteStart, minuteEnd, SECONDS_PER_MINUTE, "minutes");
+            long seconds = parseNumber(text, secondStart, secondEnd, 1, "seconds");
+            boolean negativeSecs = secondStart >= 0 && text.charAt(secondStart) == '-';
+            int nanos = parseFraction(text, fractionStart, fractionEnd, negativeSecs ? -1 : 1);
+            try {
+                return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
+            } catch (ArithmeticException ex) {
+                throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
             }
         }
         throw new DateTimeParseException("Text cannot be parsed to a Duration", text, 0);
     }
 
-    private static long parseNumber(CharSequence text, String parsed, int multiplier, String errorText) {
-        // regex limits to [-+]?[0-9]+
-        if (parsed == null) {
+    /**
+     * @return the end of the {@code [-+]?[0-9]+} number at the position, -1 if none
+     */
+    // GWT specific
+    static int numberEnd(CharSequence text, int pos, int length) {
+        if (pos < length && isSign(text.charAt(pos))) {
+            pos++;
+        }
+        int start = pos;
+        while (pos < length && isDigit(text.charAt(pos))) {
+            pos++;
+        }
+        return pos == start ? -1 : pos;
+    }
+
+    private static boolean isSign(char ch) {
+        return ch == '-' || ch == '+';
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * @return true if the character is the upper case ASCII letter or its lower case
+     */
+    static boolean isLetter(char ch, char upperCase) {
+        return ch == upperCase || ch == upperCase + ('a' - 'A');
+    }
+
+    private static long parseNumber(CharSequence text, int start, int end, int multiplier, String errorText) {
+        // the scanner limits to [-+]?[0-9]+
+        if (start < 0) {
             return 0;
         }
         try {
-            if (parsed.startsWith("+")) {
-                parsed = parsed.substring(1);
+            long val;
+            boolean negative = text.charAt(start) == '-';
+            int digits = isSign(text.charAt(start)) ? start + 1 : start;
+            if (end - digits <= SAFE_DIGITS) {
+                // exact in double, avoids the emulated long arithmetic
+                double value = 0;
+                for (int i = digits; i < end; i++) {
+                    value = value * 10 + (text.charAt(i) - '0');
+                }
+                val = (long) (negative ? -value : value);
+            } else {
+                val = Long.parseLong(text.subSequence(negative ? start : digits, end).toString());
             }
-            long val = Long.parseLong(parsed);
-            return Math.multiplyExact(val, multiplier);
+            return EpochMath.multiplyExact(val, multiplier);
         } catch (NumberFormatException | ArithmeticException ex) {
             throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: " + errorText, text, 0).initCause(ex);
         }
     }
 
-    private static int parseFraction(CharSequence text, String parsed, int negate) {
-        // regex limits to [0-9]{0,9}
-        if (parsed == null || parsed.length() == 0) {
+    private static int parseFraction(CharSequence text, int start, int end, int negate) {
+        // the scanner limits to [0-9]{0,9}
+        if (start < 0 || start == end) {
             return 0;
         }
-        try {
-            parsed = (parsed + "000000000").substring(0, 9);
-            return Integer.parseInt(parsed) * negate;
-        } catch (NumberFormatException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
-        } catch (ArithmeticException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
+        int fraction = 0;
+        for (int i = start; i < start + 9; i++) {
+            fraction = fraction * 10 + (i < end ? text.charAt(i) - '0' : 0);
         }
+        return fraction * negate;
     }
 
     private static Duration create(boolean negate, long daysAsSecs, long hoursAsSecs, long minsAsSecs, long secs, int nanos) {
-        long seconds = Math.addExact(daysAsSecs, Math.addExact(hoursAsSecs, Math.addExact(minsAsSecs, secs)));
+        long seconds = EpochMath.addExact(daysAsSecs, EpochMath.addExact(hoursAsSecs, EpochMath.addExact(minsAsSecs, secs)));
         if (negate) {
             return ofSeconds(seconds, nanos).negated();
         }
@@ -629,7 +718,7 @@ public final class Duration
     public Duration plus(long amountToAdd, TemporalUnit unit) {
         Objects.requireNonNull(unit, "unit");
         if (unit == DAYS) {
-            return plus(Math.multiplyExact(amountToAdd, SECONDS_PER_DAY), 0);
+            return plus(EpochMath.multiplyExact(amountToAdd, SECONDS_PER_DAY), 0);
         }
         if (unit.isDurationEstimated()) {
             throw new UnsupportedTemporalTypeException("Unit must not have an estimated duration");
@@ -644,7 +733,7 @@ public final class Duration
                 case MILLIS: return plusMillis(amountToAdd);
                 case SECONDS: return plusSeconds(amountToAdd);
             }
-            return plusSeconds(Math.multiplyExact(unit.getDuration().seconds, amountToAdd));
+            return plusSeconds(EpochMath.multiplyExact(unit.getDuration().seconds, amountToAdd));
         }
         Duration duration = unit.getDuration().multipliedBy(amountToAdd);
         return plusSeconds(duration.getSeconds()).plusNanos(duration.getNano());
@@ -661,7 +750,7 @@ public final class Duration
      * @throws ArithmeticException if numeric overflow occurs
      */
     public Duration plusDays(long daysToAdd) {
-        return plus(Math.multiplyExact(daysToAdd, SECONDS_PER_DAY), 0);
+        return plus(EpochMath.multiplyExact(daysToAdd, SECONDS_PER_DAY), 0);
     }
 
     /**
@@ -674,7 +763,7 @@ public final class Duration
      * @throws ArithmeticException if numeric overflow occurs
      */
     public Duration plusHours(long hoursToAdd) {
-        return plus(Math.multiplyExact(hoursToAdd, SECONDS_PER_HOUR), 0);
+        return plus(EpochMath.multiplyExact(hoursToAdd, SECONDS_PER_HOUR), 0);
     }
 
     /**
@@ -687,7 +776,7 @@ public final class Duration
      * @throws ArithmeticException if numeric overflow occurs
      */
     public Duration plusMinutes(long minutesToAdd) {
-        return plus(Math.multiplyExact(minutesToAdd, SECONDS_PER_MINUTE), 0);
+        return plus(EpochMath.multiplyExact(minutesToAdd, SECONDS_PER_MINUTE), 0);
     }
 
     /**
@@ -743,8 +832,8 @@ public final class Duration
         if ((secondsToAdd | nanosToAdd) == 0) {
             return this;
         }
-        long epochSec = Math.addExact(seconds, secondsToAdd);
-        epochSec = Math.addExact(epochSec, nanosToAdd / NANOS_PER_SECOND);
+        long epochSec = EpochMath.addExact(seconds, secondsToAdd);
+        epochSec = EpochMath.addExact(epochSec, nanosToAdd / NANOS_PER_SECOND);
         nanosToAdd = nanosToAdd % NANOS_PER_SECOND;
         long nanoAdjustment = nanos + nanosToAdd;  // safe int+NANOS_PER_SECOND
         return ofSeconds(epochSec, nanoAdjustment);
@@ -1110,8 +1199,8 @@ public final class Duration
      * @throws ArithmeticException if numeric overflow occurs
      */
     public long toMillis() {
-        long result = Math.multiplyExact(seconds, 1000);
-        result = Math.addExact(result, nanos / NANOS_PER_MILLI);
+        long result = EpochMath.multiplyExact(seconds, 1000);
+        result = EpochMath.addExact(result, nanos / NANOS_PER_MILLI);
         return result;
     }
 
@@ -1125,8 +1214,8 @@ public final class Duration
      * @throws ArithmeticException if numeric overflow occurs
      */
     public long toNanos() {
-        long result = Math.multiplyExact(seconds, NANOS_PER_SECOND);
-        result = Math.addExact(result, nanos);
+        long result = EpochMath.multiplyExact(seconds, NANOS_PER_SECOND);
+        result = EpochMath.addExact(result, nanos);
         return result;
     }
 
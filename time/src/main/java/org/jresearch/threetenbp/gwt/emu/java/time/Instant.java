@@ -56,6 +56,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Objects;
 
 /**
@@ -289,8 +290,8 @@ public final class Instant
      * @throws ArithmeticException if numeric overflow occurs
      */
     public static Instant ofEpochSecond(long epochSecond, long nanoAdjustment) {
-        long secs = Math.addExact(epochSecond, Math.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
-        int nos = (int)Math.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        long secs = EpochMath.addExact(epochSecond, EpochMath.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = (int)EpochMath.floorMod(nanoAdjustment, NANOS_PER_SECOND);
         return create(secs, nos);
     }
 
@@ -305,8 +306,8 @@ public final class Instant
      * @throws DateTimeException if the instant exceeds the maximum or minimum instant
      */
     public static Instant ofEpochMilli(long epochMilli) {
-        long secs = Math.floorDiv(epochMilli, 1000);
-        int mos = (int) Math.floorMod(epochMilli, 1000);
+        long secs = EpochMath.floorDiv(epochMilli, 1000);
+        int mos = (int) EpochMath.floorMod(epochMilli, 1000);
         return create(secs, mos * NANOS_PER_MILLI);
     }
 
@@ -686,7 +687,7 @@ public final class Instant
             throw new UnsupportedTemporalTypeException("Unit must divide into a standard day without remainder");
         }
         long nod = (seconds % LocalTime.SECONDS_PER_DAY) * LocalTime.NANOS_PER_SECOND + nanos;
-        long result = Math.floorDiv(nod, dur) * dur;
+        long result = EpochMath.floorDiv(nod, dur) * dur;
         return plusNanos(result - nod);
     }
 
@@ -714,10 +715,10 @@ public final class Instant
                 case MICROS: return plus(amountToAdd / 1000_000, (amountToAdd % 1000_000) * 1000);
                 case MILLIS: return plusMillis(amountToAdd);
                 case SECONDS: return plusSeconds(amountToAdd);
-                case MINUTES: return plusSeconds(Math.multiplyExact(amountToAdd, SECONDS_PER_MINUTE));
-                case HOURS: return plusSeconds(Math.multiplyExact(amountToAdd, SECONDS_PER_HOUR));
-                case HALF_DAYS: return plusSeconds(Math.multiplyExact(amountToAdd, SECONDS_PER_DAY / 2));
-                case DAYS: return plusSeconds(Math.multiplyExact(amountToAdd, SECONDS_PER_DAY));
+                case MINUTES: return plusSeconds(EpochMath.multiplyExact(amountToAdd, SECONDS_PER_MINUTE));
+                case HOURS: return plusSeconds(EpochMath.multiplyExact(amountToAdd, SECONDS_PER_HOUR));
+                case HALF_DAYS: return plusSeconds(EpochMath.multiplyExact(amountToAdd, SECONDS_PER_DAY / 2));
+                case DAYS: return plusSeconds(EpochMath.multiplyExact(amountToAdd, SECONDS_PER_DAY));
             }
             throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
         }
@@ -782,8 +783,8 @@ public final class Instant
         if ((secondsToAdd | nanosToAdd) == 0) {
             return this;
         }
-        long epochSec = Math.addExact(seconds, secondsToAdd);
-        epochSec = Math.addExact(epochSec, nanosToAdd / NANOS_PER_SECOND);
+        long epochSec = EpochMath.addExact(seconds, secondsToAdd);
+        epochSec = EpochMath.addExact(epochSec, nanosToAdd / NANOS_PER_SECOND);
         nanosToAdd = nanosToAdd % NANOS_PER_SECOND;
         long nanoAdjustment = nanos + nanosToAdd;  // safe int+NANOS_PER_SECOND
         return ofEpochSecond(epochSec, nanoAdjustment);
@@ -977,7 +978,7 @@ public final class Instant
             switch (f) {
                 case NANOS: return nanosUntil(end);
                 case MICROS: return nanosUntil(end) / 1000;
-                case MILLIS: return Math.subtractExact(end.toEpochMilli(), toEpochMilli());
+                case MILLIS: return EpochMath.subtractExact(end.toEpochMilli(), toEpochMilli());
                 case SECONDS: return secondsUntil(end);
                 case MINUTES: return secondsUntil(end) / SECONDS_PER_MINUTE;
                 case HOURS: return secondsUntil(end) / SECONDS_PER_HOUR;
@@ -990,13 +991,13 @@ public final class Instant
     }
 
     private long nanosUntil(Instant end) {
-        long secsDiff = Math.subtractExact(end.seconds, seconds);
-        long totalNanos = Math.multiplyExact(secsDiff, NANOS_PER_SECOND);
-        return Math.addExact(totalNanos, end.nanos - nanos);
+        long secsDiff = EpochMath.subtractExact(end.seconds, seconds);
+        long totalNanos = EpochMath.multiplyExact(secsDiff, NANOS_PER_SECOND);
+        return EpochMath.addExact(totalNanos, end.nanos - nanos);
     }
 
     private long secondsUntil(Instant end) {
-        long secsDiff = Math.subtractExact(end.seconds, seconds);
+        long secsDiff = EpochMath.subtractExact(end.seconds, seconds);
         long nanosDiff = end.nanos - nanos;
         if (secsDiff > 0 && nanosDiff < 0) {
             secsDiff--;
@@ -1059,8 +1060,8 @@ public final class Instant
      */
     public long toEpochMilli() {
         if (seconds >= 0) {
-            long millis = Math.multiplyExact(seconds, MILLIS_PER_SEC);
-            return Math.addExact(millis, nanos / NANOS_PER_MILLI);
+            long millis = EpochMath.multiplyExact(seconds, MILLIS_PER_SEC);
+            return EpochMath.addExact(millis, nanos / NANOS_PER_MILLI);
         } else {
             // prevent an overflow in seconds * 1000
             // instead of going form the second farther away from 0
@@ -1068,8 +1069,8 @@ public final class Instant
             // we go from the second closer to 0 away from 0
             // that way we always stay in the valid long range
             // seconds + 1 can not overflow because it is negative
-            long millis = Math.multiplyExact(seconds + 1, MILLIS_PER_SEC);
-            return Math.subtractExact(millis, (MILLIS_PER_SEC - nanos / NANOS_PER_MILLI));
+            long millis = EpochMath.multiplyExact(seconds + 1, MILLIS_PER_SEC);
+            return EpochMath.subtractExact(millis, (MILLIS_PER_SEC - nanos / NANOS_PER_MILLI));
         }
     }
 
@@ -65,6 +65,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTy
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneOffsetTransition;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Objects;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -258,7 +259,7 @@ public final class LocalDate
         Objects.requireNonNull(zone, "zone");
         ZoneOffset offset = zone.getRules().getOffset(instant);
         long epochSec = instant.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long epochDay = Math.floorDiv(epochSec, SECONDS_PER_DAY);
+        long epochDay = EpochMath.floorDiv(epochSec, SECONDS_PER_DAY);
         return LocalDate.ofEpochDay(epochDay);
     }
     //-----------------------------------------------------------------------
@@ -274,22 +275,23 @@ public final class LocalDate
      */
     public static LocalDate ofEpochDay(long epochDay) {
         EPOCH_DAY.checkValidValue(epochDay);
-        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // GWT specific: the valid range is exact in double, avoids the emulated long arithmetic
+        double zeroDay = (double) epochDay + DAYS_0000_TO_1970;
         // find the march-based year
         zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
-        long adjust = 0;
+        double adjust = 0;
         if (zeroDay < 0) {
             // adjust negative years to positive for calculation
-            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            double adjustCycles = Math.ceil((zeroDay + 1) / DAYS_PER_CYCLE) - 1;
             adjust = adjustCycles * 400;
             zeroDay += -adjustCycles * DAYS_PER_CYCLE;
         }
-        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
-        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        double yearEst = Math.floor((400 * zeroDay + 591) / DAYS_PER_CYCLE);
+        double doyEst = zeroDay - daysBeforeYear(yearEst);
         if (doyEst < 0) {
             // fix estimate
             yearEst--;
-            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+            doyEst = zeroDay - daysBeforeYear(yearEst);
         }
         yearEst += adjust;  // reset any negative year
         int marchDoy0 = (int) doyEst;
@@ -301,10 +303,19 @@ public final class LocalDate
         yearEst += marchMonth0 / 10;
 
         // check year now we are certain it is correct
-        int year = YEAR.checkValidIntValue(yearEst);
+        int year = YEAR.checkValidIntValue((long) yearEst);
         return new LocalDate(year, month, dom);
     }
 
+    /**
+     * @param year  the non-negative march-based year
+     * @return the days from 0000-03-01 to the start of the year
+     */
+    // GWT specific
+    private static double daysBeforeYear(double year) {
+        return 365 * year + Math.floor(year / 4) - Math.floor(year / 100) + Math.floor(year / 400);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code LocalDate} from a temporal object.
@@ -718,7 +729,7 @@ public final class LocalDate
      * @return the day-of-week, not null
      */
     public DayOfWeek getDayOfWeek() {
-        int dow0 = (int) Math.floorMod(toEpochDay() + 3, 7);
+        int dow0 = (int) EpochMath.floorMod(toEpochDay() + 3, 7);
         return DayOfWeek.of(dow0 + 1);
     }
 
@@ -1081,10 +1092,10 @@ public final class LocalDate
                 case WEEKS: return plusWeeks(amountToAdd);
                 case MONTHS: return plusMonths(amountToAdd);
                 case YEARS: return plusYears(amountToAdd);
-                case DECADES: return plusYears(Math.multiplyExact(amountToAdd, 10));
-                case CENTURIES: return plusYears(Math.multiplyExact(amountToAdd, 100));
-                case MILLENNIA: return plusYears(Math.multiplyExact(amountToAdd, 1000));
-                case ERAS: return with(ERA, Math.addExact(getLong(ERA), amountToAdd));
+                case DECADES: return plusYears(EpochMath.multiplyExact(amountToAdd, 10));
+                case CENTURIES: return plusYears(EpochMath.multiplyExact(amountToAdd, 100));
+                case MILLENNIA: return plusYears(EpochMath.multiplyExact(amountToAdd, 1000));
+                case ERAS: return with(ERA, EpochMath.addExact(getLong(ERA), amountToAdd));
             }
             throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
         }
@@ -1146,8 +1157,8 @@ public final class LocalDate
         }
         long monthCount = year * 12L + (month - 1);
         long calcMonths = monthCount + monthsToAdd;  // safe overflow
-        int newYear = YEAR.checkValidIntValue(Math.floorDiv(calcMonths, 12));
-        int newMonth = (int) (Math.floorMod(calcMonths, 12) + 1);
+        int newYear = YEAR.checkValidIntValue(EpochMath.floorDiv(calcMonths, 12));
+        int newMonth = (int) (EpochMath.floorMod(calcMonths, 12) + 1);
         return resolvePreviousValid(newYear, newMonth, day);
     }
 
@@ -1167,7 +1178,7 @@ public final class LocalDate
      * @throws DateTimeException if the result exceeds the supported date range
      */
     public LocalDate plusWeeks(long weeksToAdd) {
-        return plusDays(Math.multiplyExact(weeksToAdd, 7));
+        return plusDays(EpochMath.multiplyExact(weeksToAdd, 7));
     }
 
     /**
@@ -1189,7 +1200,7 @@ public final class LocalDate
         if (daysToAdd == 0) {
             return this;
         }
-        long mjDay = Math.addExact(toEpochDay(), daysToAdd);
+        long mjDay = EpochMath.addExact(toEpochDay(), daysToAdd);
         return LocalDate.ofEpochDay(mjDay);
     }
 
@@ -1715,24 +1726,8 @@ public final class LocalDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long y = year;
-        long m = month;
-        long total = 0;
-        total += 365 * y;
-        if (y >= 0) {
-            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
-        } else {
-            total -= y / -4 - y / -100 + y / -400;
-        }
-        total += ((367 * m - 362) / 12);
-        total += day - 1;
-        if (m > 2) {
-            total--;
-            if (isLeapYear() == false) {
-                total--;
-            }
-        }
-        return total - DAYS_0000_TO_1970;
+        // GWT specific
+        return EpochMath.toEpochDay(year, month, day);
     }
 
     /**
@@ -1741,9 +1736,8 @@ public final class LocalDate
     public long toEpochSecond(LocalTime time, ZoneOffset offset) {
         Objects.requireNonNull(time, "time");
         Objects.requireNonNull(offset, "offset");
-        long secs = toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay();
-        secs -= offset.getTotalSeconds();
-        return secs;
+        // GWT specific
+        return EpochMath.toEpochSecond(toEpochDay(), time.toSecondOfDay(), offset.getTotalSeconds());
     }
     //-----------------------------------------------------------------------
     /**
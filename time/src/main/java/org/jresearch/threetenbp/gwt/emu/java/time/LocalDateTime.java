@@ -59,6 +59,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Objects;
 
 /**
@@ -359,8 +360,8 @@ public final class LocalDateTime
     public static LocalDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
         Objects.requireNonNull(offset, "offset");
         long localSecond = epochSecond + offset.getTotalSeconds();  // overflow caught later
-        long localEpochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
-        int secsOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        long localEpochDay = EpochMath.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secsOfDay = (int) EpochMath.floorMod(localSecond, SECONDS_PER_DAY);
         LocalDate date = LocalDate.ofEpochDay(localEpochDay);
         LocalTime time = LocalTime.ofSecondOfDay(secsOfDay, nanoOfSecond);
         return new LocalDateTime(date, time);
@@ -1405,8 +1406,8 @@ public final class LocalDateTime
                 (hours % HOURS_PER_DAY) * NANOS_PER_HOUR;          //   max  86400000000000
         long curNoD = time.toNanoOfDay();                       //   max  86400000000000
         totNanos = totNanos * sign + curNoD;                    // total 432000000000000
-        totDays += Math.floorDiv(totNanos, NANOS_PER_DAY);
-        long newNoD = Math.floorMod(totNanos, NANOS_PER_DAY);
+        totDays += EpochMath.floorDiv(totNanos, NANOS_PER_DAY);
+        long newNoD = EpochMath.floorMod(totNanos, NANOS_PER_DAY);
         LocalTime newTime = (newNoD == curNoD ? time : LocalTime.ofNanoOfDay(newNoD));
         return with(newDate.plusDays(totDays), newTime);
     }
@@ -1534,26 +1535,26 @@ public final class LocalDateTime
                 long amount = daysUntil;
                 switch (f) {
                     case NANOS:
-                        amount = Math.multiplyExact(amount, NANOS_PER_DAY);
-                        return Math.addExact(amount, timeUntil);
+                        amount = EpochMath.multiplyExact(amount, NANOS_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil);
                     case MICROS:
-                        amount = Math.multiplyExact(amount, MICROS_PER_DAY);
-                        return Math.addExact(amount, timeUntil / 1000);
+                        amount = EpochMath.multiplyExact(amount, MICROS_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil / 1000);
                     case MILLIS:
-                        amount = Math.multiplyExact(amount, MILLIS_PER_DAY);
-                        return Math.addExact(amount, timeUntil / 1000000);
+                        amount = EpochMath.multiplyExact(amount, MILLIS_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil / 1000000);
                     case SECONDS:
-                        amount = Math.multiplyExact(amount, SECONDS_PER_DAY);
-                        return Math.addExact(amount, timeUntil / NANOS_PER_SECOND);
+                        amount = EpochMath.multiplyExact(amount, SECONDS_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil / NANOS_PER_SECOND);
                     case MINUTES:
-                        amount = Math.multiplyExact(amount, MINUTES_PER_DAY);
-                        return Math.addExact(amount, timeUntil / NANOS_PER_MINUTE);
+                        amount = EpochMath.multiplyExact(amount, MINUTES_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil / NANOS_PER_MINUTE);
                     case HOURS:
-                        amount = Math.multiplyExact(amount, HOURS_PER_DAY);
-                        return Math.addExact(amount, timeUntil / NANOS_PER_HOUR);
+                        amount = EpochMath.multiplyExact(amount, HOURS_PER_DAY);
+                        return EpochMath.addExact(amount, timeUntil / NANOS_PER_HOUR);
                     case HALF_DAYS:
-                        amount = Math.multiplyExact(amount, 2);
-                        return Math.addExact(amount, timeUntil / (NANOS_PER_HOUR * 12));
+                        amount = EpochMath.multiplyExact(amount, 2);
+                        return EpochMath.addExact(amount, timeUntil / (NANOS_PER_HOUR * 12));
                 }
                 throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
             }
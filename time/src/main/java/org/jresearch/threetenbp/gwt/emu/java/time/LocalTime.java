@@ -55,6 +55,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Objects;
 
 /**
@@ -367,13 +368,15 @@ public final class LocalTime
      */
     public static LocalTime ofNanoOfDay(long nanoOfDay) {
         NANO_OF_DAY.checkValidValue(nanoOfDay);
-        int hours = (int) (nanoOfDay / NANOS_PER_HOUR);
-        nanoOfDay -= hours * NANOS_PER_HOUR;
-        int minutes = (int) (nanoOfDay / NANOS_PER_MINUTE);
-        nanoOfDay -= minutes * NANOS_PER_MINUTE;
-        int seconds = (int) (nanoOfDay / NANOS_PER_SECOND);
-        nanoOfDay -= seconds * NANOS_PER_SECOND;
-        return create(hours, minutes, seconds, (int) nanoOfDay);
+        // GWT specific: the nano-of-day is exact in double, avoids the emulated long arithmetic
+        double nanos = nanoOfDay;
+        int hours = (int) (nanos / NANOS_PER_HOUR);
+        nanos -= hours * (double) NANOS_PER_HOUR;
+        int minutes = (int) (nanos / NANOS_PER_MINUTE);
+        nanos -= minutes * (double) NANOS_PER_MINUTE;
+        int seconds = (int) (nanos / NANOS_PER_SECOND);
+        nanos -= seconds * (double) NANOS_PER_SECOND;
+        return create(hours, minutes, seconds, (int) nanos);
     }
 
     //-----------------------------------------------------------------------
@@ -1370,11 +1373,8 @@ public final class LocalTime
      * @return the nano of day equivalent to this time
      */
     public long toNanoOfDay() {
-        long total = hour * NANOS_PER_HOUR;
-        total += minute * NANOS_PER_MINUTE;
-        total += second * NANOS_PER_SECOND;
-        total += nano;
-        return total;
+        // GWT specific
+        return EpochMath.toNanoOfDay(hour, minute, second, nano);
     }
 
     /**
@@ -1383,7 +1383,8 @@ public final class LocalTime
     public long toEpochSecond(LocalDate date, ZoneOffset offset) {
         Objects.requireNonNull(date);
         Objects.requireNonNull(offset);
-        return date.toEpochDay() * 86400 + toSecondOfDay() - offset.getTotalSeconds();
+        // GWT specific
+        return EpochMath.toEpochSecond(date.toEpochDay(), toSecondOfDay(), offset.getTotalSeconds());
     }
     //-----------------------------------------------------------------------
     /**
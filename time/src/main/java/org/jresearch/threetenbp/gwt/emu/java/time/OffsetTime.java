@@ -55,6 +55,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Objects;
 
 /**
@@ -1133,7 +1134,8 @@ public final class OffsetTime
      */
     public long toEpochSecond(LocalDate date) {
         Objects.requireNonNull(date);
-        return date.toEpochDay() * 86400 + time.toSecondOfDay() - offset.getTotalSeconds();
+        // GWT specific
+        return EpochMath.toEpochSecond(date.toEpochDay(), time.toSecondOfDay(), offset.getTotalSeconds());
     }
     //-----------------------------------------------------------------------
     /**
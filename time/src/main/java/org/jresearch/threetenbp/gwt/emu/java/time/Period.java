@@ -53,8 +53,6 @@ import java.util.Objects;
 //import java.util.regex.Matcher;
 //import java.util.regex.Pattern;
 
-import com.google.gwt.regexp.shared.MatchResult;
-import com.google.gwt.regexp.shared.RegExp;
 
 /**
  * A date-based amount of time, such as '2 years, 3 months and 4 days'.
@@ -102,11 +100,10 @@ public final class Period
      */
     private static final long serialVersionUID = -8290556941213247973L;
     /**
-     * The pattern for parsing.
+     * The number of digits always parsed without the overflow check.
      */
-
-    private final static RegExp PATTERN =
-    		RegExp.compile("([-+]?)P(?:([-+]?[0-9]+)Y)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)W)?(?:([-+]?[0-9]+)D)?", "i");
+    // GWT specific
+    private static final int SAFE_DIGITS = 9;
 
     /**
      * The number of years.
@@ -305,19 +302,55 @@ public final class Period
      */
     public static Period parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        MatchResult result = PATTERN.exec(text.toString());
-        if (result != null) {
-            int negate = ("-".equals(result.getGroup(1)) ? -1 : 1);
-            String yearMatch = result.getGroup(2);
-            String monthMatch = result.getGroup(3);
-            String weekMatch = result.getGroup(4);
-            String dayMatch = result.getGroup(5);
-            if (yearMatch != null || monthMatch != null || weekMatch != null || dayMatch != null) {
+        // GWT specific: scans ([-+]?)P(?:([-+]?[0-9]+)Y)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)W)?
+        // (?:([-+]?[0-9]+)D)? case insensitive without the regular expression
+        int length = text.length();
+        int pos = 0;
+        int negate = 1;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate = text.charAt(pos) == '-' ? -1 : 1;
+            pos++;
+        }
+        if (pos < length && Duration.isLetter(text.charAt(pos), 'P')) {
+            pos++;
+            // the start and end of the numbers, -1 if absent
+            int yearStart = -1, yearEnd = -1, monthStart = -1, monthEnd = -1;
+            int weekStart = -1, weekEnd = -1, dayStart = -1, dayEnd = -1;
+            // the index of the next allowed section, Y, M, W and D
+            int section = 0;
+            while (pos < length) {
+                int numberEnd = Duration.numberEnd(text, pos, length);
+                if (numberEnd < 0 || numberEnd == length) {
+                    break;
+                }
+                char suffix = text.charAt(numberEnd);
+                if (section == 0 && Duration.isLetter(suffix, 'Y')) {
+                    yearStart = pos;
+                    yearEnd = numberEnd;
+                    section = 1;
+                } else if (section <= 1 && Duration.isLetter(suffix, 'M')) {
+                    monthStart = pos;
+                    monthEnd = numberEnd;
+                    section = 2;
+                } else if (section <= 2 && Duration.isLetter(suffix, 'W')) {
+                    weekStart = pos;
+                    weekEnd = numberEnd;
+                    section = 3;
+                } else if (section <= 3 && Duration.isLetter(suffix, 'D')) {
+                    dayStart = pos;
+                    dayEnd = numberEnd;
+                    section = 4;
+                } else {
+                    break;
+                }
+                pos = numberEnd + 1;
+            }
+            if (pos == length && section > 0) {
                 try {
-                    int years = parseNumber(text, yearMatch, negate);
-                    int months = parseNumber(text, monthMatch, negate);
-                    int weeks = parseNumber(text, weekMatch, negate);
-                    int days = parseNumber(text, dayMatch, negate);
+                    int years = parseNumber(text, yearStart, yearEnd, negate);
+                    int months = parseNumber(text, monthStart, monthEnd, negate);
+                    int weeks = parseNumber(text, weekStart, weekEnd, negate);
+                    int days = parseNumber(text, dayStart, dayEnd, negate);
                     days = Math.addExact(days, Math.multiplyExact(weeks, 7));
                     return create(years, months, days);
                 } catch (NumberFormatException ex) {
@@ -328,11 +361,24 @@ public final class Period
         throw new DateTimeParseException("Text cannot be parsed to a Period", text, 0);
     }
 
-    private static int parseNumber(CharSequence text, String str, int negate) {
-        if (str == null) {
+    private static int parseNumber(CharSequence text, int start, int end, int negate) {
+        if (start < 0) {
             return 0;
         }
-        int val = Integer.parseInt(str);
+        int val;
+        char first = text.charAt(start);
+        int digits = first == '-' || first == '+' ? start + 1 : start;
+        if (end - digits <= SAFE_DIGITS) {
+            val = 0;
+            for (int i = digits; i < end; i++) {
+                val = val * 10 + (text.charAt(i) - '0');
+            }
+            if (first == '-') {
+                val = -val;
+            }
+        } else {
+            val = Integer.parseInt(text.subSequence(start, end).toString());
+        }
         try {
             return Math.multiplyExact(val, negate);
         } catch (ArithmeticException ex) {
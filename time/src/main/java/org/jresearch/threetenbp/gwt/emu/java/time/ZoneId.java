@@ -53,9 +53,6 @@ import java.util.Objects;
 import java.util.Set;
 //import java.util.TimeZone;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * A time-zone ID, such as {@code Europe/Paris}.
  * <p>
@@ -137,9 +134,6 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class ZoneId implements Serializable {
 
-	// GWT specific
-	private static final Logger LOGGER = LoggerFactory.getLogger(ZoneId.class);
-
 	/**
 	 * A map of zone overrides to enable the short time-zone names to be used.
 	 * <p>
@@ -237,15 +231,8 @@ public abstract class ZoneId implements Serializable {
 	 * @throws ZoneRulesException if the converted zone region ID cannot be found
 	 */
 	public static ZoneId systemDefault() {
-		// GWT specific
-		String browserZone = Support.getTimezone();
-		try {
-			return ZoneId.of(browserZone);
-		} catch (ZoneRulesException e) {
-			LOGGER.warn("Can't resolve system default zone {}: {}. Fallback to zone offset", browserZone, e.getMessage());
-		}
-		int minutesOffset = Support.getMinutesOffset();
-		return ZoneOffset.ofTotalSeconds(minutesOffset * 60);
+		// GWT specific: the browser zone is cached, see Support.getDefaultZone()
+		return Support.getDefaultZone();
 	}
 
 	/**
@@ -332,6 +319,11 @@ public abstract class ZoneId implements Serializable {
 	 */
 	public static ZoneId of(String zoneId) {
 		Objects.requireNonNull(zoneId, "zoneId");
+		// GWT specific: the region IDs used before are a single lookup
+		ZoneRegion region = ZoneRegion.interned(zoneId);
+		if (region != null) {
+			return region;
+		}
 		if (zoneId.equals("Z")) {
 			return ZoneOffset.UTC;
 		}
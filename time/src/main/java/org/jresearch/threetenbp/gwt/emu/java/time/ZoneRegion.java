@@ -35,9 +35,9 @@ import java.io.Serializable;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesException;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesProvider;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone.ZoneRulesCache;
 import java.util.Objects;
 
-import com.google.gwt.regexp.shared.RegExp;
 
 /**
  * A geographical region where the same time-zone rules apply.
@@ -63,11 +63,6 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 8386373296231747096L;
-    /**
-     * The regex pattern for region IDs.
-     */
-    private static final RegExp PATTERN = RegExp.compile("[A-Za-z][A-Za-z0-9~/._+-]+");
-
     /**
      * The time-zone ID, not null.
      */
@@ -120,6 +115,9 @@ final class ZoneRegion extends ZoneId implements Serializable {
 
     /**
      * Obtains an instance of {@code ZoneId} from an identifier.
+     * <p>
+     * The regions with available rules are interned with the rules bound, so the
+     * repeated lookups of the same ID return the same instance.
      *
      * @param zoneId  the time-zone ID, not null
      * @param checkAvailable  whether to check if the zone ID is available
@@ -130,9 +128,11 @@ final class ZoneRegion extends ZoneId implements Serializable {
     //GWT specific
     static ZoneRegion ofId(String zoneId, boolean checkAvailable) {
         Objects.requireNonNull(zoneId, "zoneId");
-        if (zoneId.length() < 2 || PATTERN.exec(zoneId) == null) {
-            throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
+        ZoneRegion region = interned(zoneId);
+        if (region != null) {
+            return region;
         }
+        checkName(zoneId);
         ZoneRules rules = null;
         try {
             // always attempt load for better behavior after deserialization
@@ -145,7 +145,47 @@ final class ZoneRegion extends ZoneId implements Serializable {
                 throw ex;
             }
         }
-        return new ZoneRegion(zoneId, rules);
+        region = new ZoneRegion(zoneId, rules);
+        if (rules != null) {
+            // lenient regions without rules look them up later, not interned
+            ZoneRulesCache.putRegion(zoneId, region);
+        }
+        return region;
+    }
+
+    /**
+     * Gets the interned region with the rules bound.
+     *
+     * @param zoneId  the time-zone ID, not null
+     * @return the region previously obtained with available rules, null if none
+     */
+    // GWT specific
+    static ZoneRegion interned(String zoneId) {
+        return (ZoneRegion) ZoneRulesCache.getRegion(zoneId);
+    }
+
+    /**
+     * Checks the format of the region ID, a letter followed by at least one of
+     * the letters, digits and {@code ~/._+-}.
+     *
+     * @param zoneId  the time-zone ID, not null
+     * @throws DateTimeException if the ID format is invalid
+     */
+    // GWT specific: character checks instead of the regular expression
+    private static void checkName(String zoneId) {
+        int length = zoneId.length();
+        boolean valid = length >= 2 && isLetter(zoneId.charAt(0));
+        for (int i = 1; valid && i < length; i++) {
+            char ch = zoneId.charAt(i);
+            valid = isLetter(ch) || (ch >= '0' && ch <= '9') || "~/._+-".indexOf(ch) >= 0;
+        }
+        if (valid == false) {
+            throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
+        }
+    }
+
+    private static boolean isLetter(char ch) {
+        return (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z');
     }
 
     //-------------------------------------------------------------------------
@@ -2046,9 +2046,10 @@ public final class ZonedDateTime
         }
         if (obj instanceof ZonedDateTime) {
             ZonedDateTime other = (ZonedDateTime) obj;
+            // GWT specific: the interned zones and the cached offsets usually match by identity
             return dateTime.equals(other.dateTime) &&
-                offset.equals(other.offset) &&
-                zone.equals(other.zone);
+                (offset == other.offset || offset.equals(other.offset)) &&
+                (zone == other.zone || zone.equals(other.zone));
         }
         return false;
     }
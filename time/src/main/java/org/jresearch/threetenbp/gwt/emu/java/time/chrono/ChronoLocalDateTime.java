@@ -60,6 +60,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Comparator;
 import java.util.Objects;
 
@@ -328,10 +329,8 @@ public interface ChronoLocalDateTime<D extends ChronoLocalDate>
      */
     default long toEpochSecond(ZoneOffset offset) {
         Objects.requireNonNull(offset, "offset");
-        long epochDay = toLocalDate().toEpochDay();
-        long secs = epochDay * 86400 + toLocalTime().toSecondOfDay();
-        secs -= offset.getTotalSeconds();
-        return secs;
+        // GWT specific
+        return EpochMath.toEpochSecond(toLocalDate().toEpochDay(), toLocalTime().toSecondOfDay(), offset.getTotalSeconds());
     }
 
     //-----------------------------------------------------------------------
@@ -60,6 +60,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 import java.util.Comparator;
 import java.util.Objects;
 
@@ -433,10 +434,8 @@ public interface ChronoZonedDateTime<D extends ChronoLocalDate>
      * @return the number of seconds from the epoch of 1970-01-01T00:00:00Z
      */
     default long toEpochSecond() {
-        long epochDay = toLocalDate().toEpochDay();
-        long secs = epochDay * 86400 + toLocalTime().toSecondOfDay();
-        secs -= getOffset().getTotalSeconds();
-        return secs;
+        // GWT specific
+        return EpochMath.toEpochSecond(toLocalDate().toEpochDay(), toLocalTime().toSecondOfDay(), getOffset().getTotalSeconds());
     }
 
     //-----------------------------------------------------------------------
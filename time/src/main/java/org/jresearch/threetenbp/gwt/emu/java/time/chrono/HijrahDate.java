@@ -52,7 +52,8 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalUnit;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ValueRange;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -255,119 +256,21 @@ public final class HijrahDate
 //     * Default path to the config file.
 //     */
 //    private static final String DEFAULT_CONFIG_PATH = "org" + FILE_SEP + "threeten" + FILE_SEP + "bp" + FILE_SEP + "chrono";
-    /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
-     */
-    private static final Long[] ADJUSTED_CYCLES;
-    /**
-     * Holding the adjusted min values.
-     */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
-    /**
-     * Holding the adjusted max least max values.
-     */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
-    /**
-     * Holding adjusted max values.
-     */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
-    /**
-     * Holding the non-adjusted month days in year for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month days in year for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month length for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted month length for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted 30 year cycle starting day.
-     */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
     /**
      * number of 30-year cycles to hold the deviation data.
      */
     private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
+    /**
+     * The starting days of the 30 year cycles in the 1 - 10020 year, indexed
+     * by the cycle number.
+     */
+    // GWT specific: int array, the deviation configuration is not read
+    private static final int[] CYCLE_START_DAYS = new int[MAX_ADJUSTED_CYCLE];
 
     static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = Integer.valueOf(NUM_DAYS[i]);
+        for (int i = 0; i < CYCLE_START_DAYS.length; i++) {
+            CYCLE_START_DAYS[i] = 10631 * i;
         }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = Integer.valueOf(LEAP_NUM_DAYS[i]);
-        }
-
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = Integer.valueOf(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = Integer.valueOf(LEAP_MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = Integer.valueOf(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = Long.valueOf(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = Integer.valueOf(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = Integer.valueOf(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = Integer.valueOf(MAX_VALUES[i]);
-        }
-//GWT Specific
-//        try {
-//            readDeviationConfig();
-//        } catch (IOException e) {
-//            // do nothing. Ignore deviation config.
-//            // e.printStackTrace();
-//        } catch (ParseException e) {
-//            // do nothing. Ignore deviation config.
-//            // e.printStackTrace();
-//        }
     }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
@@ -547,6 +450,32 @@ public final class HijrahDate
         return new HijrahDate(epochDay);
     }
 
+    /**
+     * Obtains all the dates of a month of the Islamic Umm Al-Qura calendar.
+     * <p>
+     * This is equivalent to calling {@link #of(int, int, int)} for every day of
+     * the month, but only the first day is converted, the other dates are
+     * derived from it.
+     * <p>
+     * This method is not found in Java SE.
+     *
+     * @param prolepticYear  the proleptic year to represent in the Hijrah
+     * @param monthOfYear  the month-of-year to represent, from 1 to 12
+     * @return the dates from the first to the last day of the month, not null
+     * @throws DateTimeException if the year or the month is invalid
+     */
+    // GWT specific
+    public static List<HijrahDate> ofMonth(int prolepticYear, int monthOfYear) {
+        HijrahDate first = of(prolepticYear, monthOfYear, 1);
+        int length = first.lengthOfMonth();
+        List<HijrahDate> dates = new ArrayList<HijrahDate>(length);
+        dates.add(first);
+        for (int day = 1; day < length; day++) {
+            dates.add(new HijrahDate(first, day));
+        }
+        return dates;
+    }
+
     /**
      * Obtains a {@code HijrahDate} of the Islamic Umm Al-Qura calendar from a temporal object.
      * <p>
@@ -575,23 +504,57 @@ public final class HijrahDate
      * @param gregorianDay  the number of days from 0001/01/01 (Gregorian), caller calculated
      */
     private HijrahDate(long gregorianDay) {
-        int[] dateInfo = getHijrahDateInfo(gregorianDay);
-
-        checkValidYearOfEra(dateInfo[1]);
-        checkValidMonth(dateInfo[2]);
-        checkValidDayOfMonth(dateInfo[3]);
-        checkValidDayOfYear(dateInfo[4]);
-
-        this.era = HijrahEra.of(dateInfo[0]);
-        this.yearOfEra = dateInfo[1];
-        this.monthOfYear = dateInfo[2];
-        this.dayOfMonth = dateInfo[3];
-        this.dayOfYear = dateInfo[4];
-        this.dayOfWeek = DayOfWeek.of(dateInfo[5]);
+        // GWT specific: the fields are calculated without the date info array
+        long epochDay = gregorianDay - HIJRAH_JAN_1_1_GREGORIAN_DAY;
+        int cycleNumber = getCycleNumber(epochDay);
+        int dayOfCycle = getDayOfCycle(epochDay, cycleNumber);
+        int yearInCycle = getYearInCycle(cycleNumber, dayOfCycle);
+        int dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
+        int year;
+        if (epochDay >= 0) {
+            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
+        } else {
+            year = 1 - (cycleNumber * 30 - yearInCycle);
+            dayOfYear += isLeapYear(year) ? 355 : 354;
+        }
+        int month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
+        int date = getDayOfMonth(dayOfYear, month, year) + 1;
+
+        checkValidYearOfEra(year);
+        checkValidMonth(month + 1);
+        checkValidDayOfMonth(date);
+        checkValidDayOfYear(dayOfYear + 1);
+
+        this.era = epochDay >= 0 ? HijrahEra.AH : HijrahEra.BEFORE_AH;
+        this.yearOfEra = year;
+        this.monthOfYear = month + 1;
+        this.dayOfMonth = date;
+        this.dayOfYear = dayOfYear + 1;
+        // Hijrah day zero is a Friday
+        int dayOfWeek = (int) ((epochDay + 5) % 7);
+        this.dayOfWeek = DayOfWeek.of(dayOfWeek <= 0 ? dayOfWeek + 7 : dayOfWeek);
         this.gregorianEpochDay = gregorianDay;
         this.isLeapYear = isLeapYear(this.yearOfEra);
     }
 
+    /**
+     * Constructs the date the days after the date in the same month.
+     *
+     * @param date  the date to start from, not null
+     * @param days  the days to add, the result is in the same month
+     */
+    // GWT specific
+    private HijrahDate(HijrahDate date, int days) {
+        this.era = date.era;
+        this.yearOfEra = date.yearOfEra;
+        this.monthOfYear = date.monthOfYear;
+        this.dayOfMonth = date.dayOfMonth + days;
+        this.dayOfYear = date.dayOfYear + days;
+        this.dayOfWeek = date.dayOfWeek.plus(days);
+        this.gregorianEpochDay = date.gregorianEpochDay + days;
+        this.isLeapYear = date.isLeapYear;
+    }
+
     /**
      * Replaces the date instance from the stream with a valid one.
      *
@@ -771,68 +734,6 @@ public final class HijrahDate
     }
 
     //-----------------------------------------------------------------------
-    /**
-     * Returns the int array containing the following field from the julian day.
-     *
-     * int[0] = ERA
-     * int[1] = YEAR
-     * int[2] = MONTH
-     * int[3] = DATE
-     * int[4] = DAY_OF_YEAR
-     * int[5] = DAY_OF_WEEK
-     *
-     * @param julianDay  a julian day.
-     */
-    private static int[] getHijrahDateInfo(long gregorianDays) {
-        int era, year, month, date, dayOfWeek, dayOfYear;
-
-        int cycleNumber, yearInCycle, dayOfCycle;
-
-        long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
-
-        if (epochDay >= 0) {
-            cycleNumber = getCycleNumber(epochDay); // 0 - 99.
-            dayOfCycle = getDayOfCycle(epochDay, cycleNumber); // 0 - 10631.
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            // 0 - 354/355
-            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
-            month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
-            date = getDayOfMonth(dayOfYear, month, year); // 0-based date
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.AH.getValue();
-        } else {
-            cycleNumber = (int) epochDay / 10631; // 0 or negative number.
-            dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
-            if (dayOfCycle == 0) {
-                dayOfCycle = -10631;
-                cycleNumber++;
-            }
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            year = cycleNumber * 30 - yearInCycle; // negative number.
-            year = 1 - year;
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            month = getMonthOfYear(dayOfYear, year);
-            date = getDayOfMonth(dayOfYear, month, year);
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.BEFORE_AH.getValue();
-        }
-        // Hijrah day zero is a Friday
-        dayOfWeek = (int) ((epochDay + 5) % 7);
-        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
-
-        int dateInfo[] = new int[6];
-        dateInfo[0] = era;
-        dateInfo[1] = year;
-        dateInfo[2] = month + 1; // change to 1-based.
-        dateInfo[3] = date;
-        dateInfo[4] = dayOfYear + 1; // change to 1-based.
-        dateInfo[5] = dayOfWeek;
-        return dateInfo;
-    }
-
     /**
      * Return Gregorian epoch day from Hijrah year, month, and day.
      *
@@ -858,48 +759,53 @@ public final class HijrahDate
         int cycleNumber = (prolepticYear - 1) / 30; // 0-based.
         int yearInCycle = (prolepticYear - 1) % 30; // 0-based.
 
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
+        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)];
 
         if (yearInCycle < 0) {
             dayInCycle = -dayInCycle;
         }
 
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
+        return getCycleStartDay(cycleNumber) + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1;
+    }
 
-        if (cycleDays == null) {
-            cycleDays = Long.valueOf(cycleNumber * 10631);
+    /**
+     * Returns the starting day of the 30 year cycle.
+     *
+     * @param cycleNumber  a cycle number
+     * @return the days from the Hijrah epoch
+     */
+    // GWT specific
+    private static int getCycleStartDay(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < CYCLE_START_DAYS.length) {
+            return CYCLE_START_DAYS[cycleNumber];
         }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
+        return cycleNumber * 10631;
     }
 
     /**
      * Returns the 30 year cycle number from the epoch day.
      *
      * @param epochDay  an epoch day
-     * @return a cycle number
+     * @return a cycle number, 0 or negative before the Hijrah epoch
      */
     private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
+        if (epochDay < 0) {
+            int cycleNumber = (int) epochDay / 10631; // 0 or negative number.
+            return (int) epochDay % 10631 == 0 ? cycleNumber + 1 : cycleNumber;
+        }
+        int last = CYCLE_START_DAYS.length - 1;
+        if (epochDay < CYCLE_START_DAYS[last]) {
+            // GWT specific: start at the average cycle length instead of the linear search
+            int cycleNumber = (int) epochDay / 10631;
+            while (epochDay < CYCLE_START_DAYS[cycleNumber]) {
+                cycleNumber--;
+            }
+            while (epochDay >= CYCLE_START_DAYS[cycleNumber + 1]) {
+                cycleNumber++;
             }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
+            return cycleNumber;
         }
-        return cycleNumber;
+        return (int) epochDay / 10631;
     }
 
     /**
@@ -907,20 +813,14 @@ public final class HijrahDate
      *
      * @param epochDay  an epoch day
      * @param cycleNumber  a cycle number
-     * @return a day of cycle
+     * @return a day of cycle, 0 - 10630 or -10631 - -1 before the Hijrah epoch
      */
     private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
-
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
+        if (epochDay < 0) {
+            int dayOfCycle = (int) epochDay % 10631;
+            return dayOfCycle == 0 ? -10631 : dayOfCycle;
         }
-        if (day == null) {
-            day = Long.valueOf(cycleNumber * 10631);
-        }
-        return (int) (epochDay - day.longValue());
+        return (int) (epochDay - getCycleStartDay(cycleNumber));
     }
 
     /**
@@ -930,15 +830,15 @@ public final class HijrahDate
      * @param dayOfCycle  day of cycle
      * @return a year in cycle
      */
-    private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
+    private static int getYearInCycle(int cycleNumber, int dayOfCycle) {
+        int[] cycles = getAdjustedCycle(cycleNumber);
         if (dayOfCycle == 0) {
             return 0;
         }
 
         if (dayOfCycle > 0) {
             for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
+                if (dayOfCycle < cycles[i]) {
                     return i - 1;
                 }
             }
@@ -946,7 +846,7 @@ public final class HijrahDate
         } else {
             dayOfCycle = -dayOfCycle;
             for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
+                if (dayOfCycle <= cycles[i]) {
                     return i - 1;
                 }
             }
@@ -955,69 +855,34 @@ public final class HijrahDate
     }
 
     /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
+     * Returns adjusted 30 year cycle starting day as int array from the
      * cycle number specified.
      *
      * @param cycleNumber  a cycle number
-     * @return an Integer array
+     * @return an int array, not to be modified
      */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
-        }
-        return cycles;
+    private static int[] getAdjustedCycle(int cycleNumber) {
+        return CYCLEYEAR_START_DATE;
     }
 
     /**
-     * Returns adjusted month days as Integer array form the year specified.
+     * Returns adjusted month days as int array form the year specified.
      *
      * @param year  a year
-     * @return an Integer array
+     * @return an int array, not to be modified
      */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
-        }
-        return newMonths;
+    private static int[] getAdjustedMonthDays(int year) {
+        return isLeapYear(year) ? LEAP_NUM_DAYS : NUM_DAYS;
     }
 
     /**
-     * Returns adjusted month length as Integer array form the year specified.
+     * Returns adjusted month length as int array form the year specified.
      *
      * @param year  a year
-     * @return an Integer array
+     * @return an int array, not to be modified
      */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
-            } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
-            }
-        }
-        return newMonths;
+    private static int[] getAdjustedMonthLength(int year) {
+        return isLeapYear(year) ? LEAP_MONTH_LENGTH : MONTH_LENGTH;
     }
 
     /**
@@ -1029,12 +894,12 @@ public final class HijrahDate
      * @return day-of-year
      */
     private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
+        int[] cycles = getAdjustedCycle(cycleNumber);
 
         if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
+            return dayOfCycle - cycles[yearInCycle];
         } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
+            return cycles[yearInCycle] + dayOfCycle;
         }
     }
 
@@ -1047,11 +912,11 @@ public final class HijrahDate
      */
     private static int getMonthOfYear(int dayOfYear, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
+        int[] newMonths = getAdjustedMonthDays(year);
 
         if (dayOfYear >= 0) {
             for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
+                if (dayOfYear < newMonths[i]) {
                     return i - 1;
                 }
             }
@@ -1060,7 +925,7 @@ public final class HijrahDate
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
             for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
+                if (dayOfYear < newMonths[i]) {
                     return i - 1;
                 }
             }
@@ -1078,11 +943,11 @@ public final class HijrahDate
      */
     private static int getDayOfMonth(int dayOfYear, int month, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
+        int[] newMonths = getAdjustedMonthDays(year);
 
         if (dayOfYear >= 0) {
             if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
+                return dayOfYear - newMonths[month];
             } else {
                 return dayOfYear;
             }
@@ -1090,7 +955,7 @@ public final class HijrahDate
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
             if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
+                return dayOfYear - newMonths[month];
             } else {
                 return dayOfYear;
             }
@@ -1115,8 +980,8 @@ public final class HijrahDate
      * @return month days from the beginning of year
      */
     private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
+        int[] newMonths = getAdjustedMonthDays(year);
+        return newMonths[month];
     }
 
     /**
@@ -1127,8 +992,8 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+      int[] newMonths = getAdjustedMonthLength(year);
+      return newMonths[month];
     }
 
     @Override
@@ -1143,26 +1008,8 @@ public final class HijrahDate
      * @return year length
      */
     static int getYearLength(int year) {
-
-        int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
-            int yearInCycle = (year - 1) % 30;
-            if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
-            }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
-        } else {
-            return isLeapYear(year) ? 355 : 354;
-        }
+        // GWT specific: without the deviation data the cycles are not adjusted
+        return isLeapYear(year) ? 355 : 354;
     }
 
     @Override
@@ -1176,7 +1023,7 @@ public final class HijrahDate
      * @return maximum day-of-month
      */
     static int getMaximumDayOfMonth() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1185,7 +1032,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-month
      */
     static int getSmallestMaximumDayOfMonth() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1194,7 +1041,7 @@ public final class HijrahDate
      * @return maximum day-of-year
      */
     static int getMaximumDayOfYear() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     /**
@@ -1203,7 +1050,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-year
      */
     static int getSmallestMaximumDayOfYear() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     // ----- Deviation handling -----//
@@ -68,10 +68,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 
@@ -93,10 +90,14 @@ import java.util.Set;
  */
 final class DateTimeBuilder implements TemporalAccessor, Cloneable {
 
+    // GWT specific
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+
     /**
      * The map of other fields.
      */
-    final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+    // GWT specific
+    final FieldValues fieldValues = new FieldValues();
     /**
      * The chronology.
      */
@@ -141,6 +142,20 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
         addFieldValue(field, value);
     }
 
+    /**
+     * Clears the builder to the state of a new empty instance, so it can be reused.
+     */
+    // GWT specific
+    void reset() {
+        fieldValues.clear();
+        chrono = null;
+        zone = null;
+        date = null;
+        time = null;
+        leapSecond = false;
+        excessDays = null;
+    }
+
     //-----------------------------------------------------------------------
     private Long getFieldValue0(TemporalField field) {
         return fieldValues.get(field);
@@ -162,6 +177,9 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
      */
     DateTimeBuilder addFieldValue(TemporalField field, long value) {
         Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            return addFieldValue((ChronoField) field, value);
+        }
         Long old = getFieldValue0(field);  // check first for better error message
         if (old != null && old.longValue() != value) {
             throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
@@ -169,6 +187,15 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
         return putFieldValue0(field, value);
     }
 
+    // GWT specific
+    private DateTimeBuilder addFieldValue(ChronoField field, long value) {
+        if (fieldValues.contains(field) && fieldValues.getLong(field) != value) {
+            throw new DateTimeException("Conflict found: " + field + " " + fieldValues.getLong(field) + " differs from " + field + " " + value + ": " + this);
+        }
+        fieldValues.putLong(field, value);
+        return this;
+    }
+
     private DateTimeBuilder putFieldValue0(TemporalField field, long value) {
         fieldValues.put(field, value);
         return this;
@@ -220,10 +247,10 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
 
     private boolean resolveFields(ResolverStyle resolverStyle) {
         int changes = 0;
+        // GWT specific: ChronoField.resolve() returns null, only the other fields are resolved
         outer:
-        while (changes < 100) {
-            for (Map.Entry<TemporalField, Long> entry : fieldValues.entrySet()) {
-                TemporalField targetField = entry.getKey();
+        while (changes < 100 && fieldValues.hasOthers()) {
+            for (TemporalField targetField : fieldValues.otherFields()) {
                 TemporalAccessor resolvedObject = targetField.resolve(fieldValues, this, resolverStyle);
                 if (resolvedObject != null) {
                     if (resolvedObject instanceof ChronoZonedDateTime) {
@@ -271,30 +298,30 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
             throw new DateTimeException("ChronoLocalDate must use the effective parsed chronology: " + chrono);
         }
         long epochDay = date.toEpochDay();
-        Long old = fieldValues.put(ChronoField.EPOCH_DAY, epochDay);
-        if (old != null && old.longValue() != epochDay) {
-            throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
+        if (fieldValues.contains(EPOCH_DAY) && fieldValues.getLong(EPOCH_DAY) != epochDay) {
+            throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(fieldValues.getLong(EPOCH_DAY)) +
                     " differs from " + LocalDate.ofEpochDay(epochDay) +
                     " while resolving  " + targetField);
         }
+        fieldValues.putLong(EPOCH_DAY, epochDay);
     }
 
     private void resolveMakeChanges(TemporalField targetField, LocalTime time) {
         long nanOfDay = time.toNanoOfDay();
-        Long old = fieldValues.put(ChronoField.NANO_OF_DAY, nanOfDay);
-        if (old != null && old.longValue() != nanOfDay) {
-            throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
+        if (fieldValues.contains(NANO_OF_DAY) && fieldValues.getLong(NANO_OF_DAY) != nanOfDay) {
+            throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(fieldValues.getLong(NANO_OF_DAY)) +
                     " differs from " + time +
                     " while resolving  " + targetField);
         }
+        fieldValues.putLong(NANO_OF_DAY, nanOfDay);
     }
 
     private void mergeDate(ResolverStyle resolverStyle) {
         if (chrono instanceof IsoChronology) {
             checkDate(IsoChronology.INSTANCE.resolveDate(fieldValues, resolverStyle));
         } else {
-            if (fieldValues.containsKey(EPOCH_DAY)) {
-                checkDate(LocalDate.ofEpochDay(fieldValues.remove(EPOCH_DAY)));
+            if (fieldValues.contains(EPOCH_DAY)) {
+                checkDate(LocalDate.ofEpochDay(fieldValues.removeLong(EPOCH_DAY)));
                 return;
             }
         }
@@ -303,8 +330,8 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
     private void checkDate(LocalDate date) {
         if (date != null) {
             addObject(date);
-            for (TemporalField field : fieldValues.keySet()) {
-                if (field instanceof ChronoField) {
+            for (ChronoField field : CHRONO_FIELDS) {
+                if (fieldValues.contains(field)) {
                     if (field.isDateBased()) {
                         long val1;
                         try {
@@ -312,7 +339,7 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
                         } catch (DateTimeException ex) {
                             continue;
                         }
-                        Long val2 = fieldValues.get(field);
+                        long val2 = fieldValues.getLong(field);
                         if (val1 != val2) {
                             throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
                         }
@@ -323,8 +350,8 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
     }
 
     private void mergeTime(ResolverStyle resolverStyle) {
-        if (fieldValues.containsKey(CLOCK_HOUR_OF_DAY)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_DAY);
+        if (fieldValues.contains(CLOCK_HOUR_OF_DAY)) {
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -334,8 +361,8 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
             }
             addFieldValue(HOUR_OF_DAY, ch == 24 ? 0 : ch);
         }
-        if (fieldValues.containsKey(CLOCK_HOUR_OF_AMPM)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_AMPM);
+        if (fieldValues.contains(CLOCK_HOUR_OF_AMPM)) {
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_AMPM);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
@@ -346,16 +373,16 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
             addFieldValue(HOUR_OF_AMPM, ch == 12 ? 0 : ch);
         }
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (fieldValues.containsKey(AMPM_OF_DAY)) {
-                AMPM_OF_DAY.checkValidValue(fieldValues.get(AMPM_OF_DAY));
+            if (fieldValues.contains(AMPM_OF_DAY)) {
+                AMPM_OF_DAY.checkValidValue(fieldValues.getLong(AMPM_OF_DAY));
             }
-            if (fieldValues.containsKey(HOUR_OF_AMPM)) {
-                HOUR_OF_AMPM.checkValidValue(fieldValues.get(HOUR_OF_AMPM));
+            if (fieldValues.contains(HOUR_OF_AMPM)) {
+                HOUR_OF_AMPM.checkValidValue(fieldValues.getLong(HOUR_OF_AMPM));
             }
         }
-        if (fieldValues.containsKey(AMPM_OF_DAY) && fieldValues.containsKey(HOUR_OF_AMPM)) {
-            long ap = fieldValues.remove(AMPM_OF_DAY);
-            long hap = fieldValues.remove(HOUR_OF_AMPM);
+        if (fieldValues.contains(AMPM_OF_DAY) && fieldValues.contains(HOUR_OF_AMPM)) {
+            long ap = fieldValues.removeLong(AMPM_OF_DAY);
+            long hap = fieldValues.removeLong(HOUR_OF_AMPM);
             addFieldValue(HOUR_OF_DAY, ap * 12 + hap);
         }
 //        if (timeFields.containsKey(HOUR_OF_DAY) && timeFields.containsKey(MINUTE_OF_HOUR)) {
@@ -368,32 +395,32 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
 //            long som = timeFields.remove(SECOND_OF_MINUTE);
 //            addFieldValue(SECOND_OF_DAY, mod * 60 + som);
 //        }
-        if (fieldValues.containsKey(NANO_OF_DAY)) {
-            long nod = fieldValues.remove(NANO_OF_DAY);
+        if (fieldValues.contains(NANO_OF_DAY)) {
+            long nod = fieldValues.removeLong(NANO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 NANO_OF_DAY.checkValidValue(nod);
             }
             addFieldValue(SECOND_OF_DAY, nod / 1000000000L);
             addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         }
-        if (fieldValues.containsKey(MICRO_OF_DAY)) {
-            long cod = fieldValues.remove(MICRO_OF_DAY);
+        if (fieldValues.contains(MICRO_OF_DAY)) {
+            long cod = fieldValues.removeLong(MICRO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MICRO_OF_DAY.checkValidValue(cod);
             }
             addFieldValue(SECOND_OF_DAY, cod / 1000000L);
             addFieldValue(MICRO_OF_SECOND, cod % 1000000L);
         }
-        if (fieldValues.containsKey(MILLI_OF_DAY)) {
-            long lod = fieldValues.remove(MILLI_OF_DAY);
+        if (fieldValues.contains(MILLI_OF_DAY)) {
+            long lod = fieldValues.removeLong(MILLI_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MILLI_OF_DAY.checkValidValue(lod);
             }
             addFieldValue(SECOND_OF_DAY, lod / 1000);
             addFieldValue(MILLI_OF_SECOND, lod % 1000);
         }
-        if (fieldValues.containsKey(SECOND_OF_DAY)) {
-            long sod = fieldValues.remove(SECOND_OF_DAY);
+        if (fieldValues.contains(SECOND_OF_DAY)) {
+            long sod = fieldValues.removeLong(SECOND_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 SECOND_OF_DAY.checkValidValue(sod);
             }
@@ -401,8 +428,8 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
             addFieldValue(MINUTE_OF_HOUR, (sod / 60) % 60);
             addFieldValue(SECOND_OF_MINUTE, sod % 60);
         }
-        if (fieldValues.containsKey(MINUTE_OF_DAY)) {
-            long mod = fieldValues.remove(MINUTE_OF_DAY);
+        if (fieldValues.contains(MINUTE_OF_DAY)) {
+            long mod = fieldValues.removeLong(MINUTE_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 MINUTE_OF_DAY.checkValidValue(mod);
             }
@@ -416,33 +443,33 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
 //            addFieldValue(SECOND_OF_MINUTE, sod % 60);
 //            addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-                MILLI_OF_SECOND.checkValidValue(fieldValues.get(MILLI_OF_SECOND));
+            if (fieldValues.contains(MILLI_OF_SECOND)) {
+                MILLI_OF_SECOND.checkValidValue(fieldValues.getLong(MILLI_OF_SECOND));
             }
-            if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-                MICRO_OF_SECOND.checkValidValue(fieldValues.get(MICRO_OF_SECOND));
+            if (fieldValues.contains(MICRO_OF_SECOND)) {
+                MICRO_OF_SECOND.checkValidValue(fieldValues.getLong(MICRO_OF_SECOND));
             }
         }
-        if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
-            long cos = fieldValues.get(MICRO_OF_SECOND);
+        if (fieldValues.contains(MILLI_OF_SECOND) && fieldValues.contains(MICRO_OF_SECOND)) {
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
+            long cos = fieldValues.getLong(MICRO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, los * 1000 + (cos % 1000));
         }
-        if (fieldValues.containsKey(MICRO_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+        if (fieldValues.contains(MICRO_OF_SECOND) && fieldValues.contains(NANO_OF_SECOND)) {
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, nos / 1000);
-            fieldValues.remove(MICRO_OF_SECOND);
+            fieldValues.removeLong(MICRO_OF_SECOND);
         }
-        if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+        if (fieldValues.contains(MILLI_OF_SECOND) && fieldValues.contains(NANO_OF_SECOND)) {
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MILLI_OF_SECOND, nos / 1000000);
-            fieldValues.remove(MILLI_OF_SECOND);
+            fieldValues.removeLong(MILLI_OF_SECOND);
         }
-        if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long cos = fieldValues.remove(MICRO_OF_SECOND);
+        if (fieldValues.contains(MICRO_OF_SECOND)) {
+            long cos = fieldValues.removeLong(MICRO_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, cos * 1000);
-        } else if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
+        } else if (fieldValues.contains(MILLI_OF_SECOND)) {
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, los * 1000000);
         }
     }
@@ -525,29 +552,26 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
                 }
             }
         }
-        fieldValues.remove(HOUR_OF_DAY);
-        fieldValues.remove(MINUTE_OF_HOUR);
-        fieldValues.remove(SECOND_OF_MINUTE);
-        fieldValues.remove(NANO_OF_SECOND);
+        fieldValues.removeLong(HOUR_OF_DAY);
+        fieldValues.removeLong(MINUTE_OF_HOUR);
+        fieldValues.removeLong(SECOND_OF_MINUTE);
+        fieldValues.removeLong(NANO_OF_SECOND);
     }
 
     //-----------------------------------------------------------------------
     private void mergeInstantFields() {
-        if (fieldValues.containsKey(INSTANT_SECONDS)) {
+        if (fieldValues.contains(INSTANT_SECONDS)) {
             if (zone != null) {
                 mergeInstantFields0(zone);
-            } else {
-                Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-                if (offsetSecs != null) {
-                    ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
-                    mergeInstantFields0(offset);
-                }
+            } else if (fieldValues.contains(OFFSET_SECONDS)) {
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
+                mergeInstantFields0(offset);
             }
         }
     }
 
     private void mergeInstantFields0(ZoneId selectedZone) {
-        Instant instant = Instant.ofEpochSecond(fieldValues.remove(INSTANT_SECONDS));
+        Instant instant = Instant.ofEpochSecond(fieldValues.removeLong(INSTANT_SECONDS));
         ChronoZonedDateTime<?> zdt = chrono.zonedDateTime(instant, selectedZone);
         if (date == null) {
             addObject(zdt.toLocalDate());
@@ -571,54 +595,70 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
     }
 
     private void crossCheck(TemporalAccessor temporal) {
-        Iterator<Entry<TemporalField, Long>> it = fieldValues.entrySet().iterator();
-        while (it.hasNext()) {
-            Entry<TemporalField, Long> entry = it.next();
-            TemporalField field = entry.getKey();
-            long value = entry.getValue();
-            if (temporal.isSupported(field)) {
-                long temporalValue;
-                try {
-                    temporalValue = temporal.getLong(field);
-                } catch (RuntimeException ex) {
-                    continue;
-                }
-                if (temporalValue != value) {
-                    throw new DateTimeException("Cross check failed: " +
-                            field + " " + temporalValue + " vs " + field + " " + value);
+        // GWT specific: the ChronoField values without boxing
+        for (ChronoField field : CHRONO_FIELDS) {
+            if (fieldValues.contains(field) && crossCheck(temporal, field, fieldValues.getLong(field))) {
+                fieldValues.removeLong(field);
+            }
+        }
+        if (fieldValues.hasOthers()) {
+            Iterator<TemporalField> it = fieldValues.otherFields().iterator();
+            while (it.hasNext()) {
+                TemporalField field = it.next();
+                if (crossCheck(temporal, field, fieldValues.get(field))) {
+                    it.remove();
                 }
-                it.remove();
             }
         }
     }
 
+    /**
+     * @return true if the value is the same as in the temporal, false if the temporal has no value
+     */
+    // GWT specific
+    private static boolean crossCheck(TemporalAccessor temporal, TemporalField field, long value) {
+        if (temporal.isSupported(field)) {
+            long temporalValue;
+            try {
+                temporalValue = temporal.getLong(field);
+            } catch (RuntimeException ex) {
+                return false;
+            }
+            if (temporalValue != value) {
+                throw new DateTimeException("Cross check failed: " +
+                        field + " " + temporalValue + " vs " + field + " " + value);
+            }
+            return true;
+        }
+        return false;
+    }
+
     private void resolveFractional() {
         if (time == null &&
-                (fieldValues.containsKey(INSTANT_SECONDS) ||
-                    fieldValues.containsKey(SECOND_OF_DAY) ||
-                    fieldValues.containsKey(SECOND_OF_MINUTE))) {
-            if (fieldValues.containsKey(NANO_OF_SECOND)) {
-                long nos = fieldValues.get(NANO_OF_SECOND);
-                fieldValues.put(MICRO_OF_SECOND, nos / 1000);
-                fieldValues.put(MILLI_OF_SECOND, nos / 1000000);
+                (fieldValues.contains(INSTANT_SECONDS) ||
+                    fieldValues.contains(SECOND_OF_DAY) ||
+                    fieldValues.contains(SECOND_OF_MINUTE))) {
+            if (fieldValues.contains(NANO_OF_SECOND)) {
+                long nos = fieldValues.getLong(NANO_OF_SECOND);
+                fieldValues.putLong(MICRO_OF_SECOND, nos / 1000);
+                fieldValues.putLong(MILLI_OF_SECOND, nos / 1000000);
             } else {
-                fieldValues.put(NANO_OF_SECOND, 0L);
-                fieldValues.put(MICRO_OF_SECOND, 0L);
-                fieldValues.put(MILLI_OF_SECOND, 0L);
+                fieldValues.putLong(NANO_OF_SECOND, 0L);
+                fieldValues.putLong(MICRO_OF_SECOND, 0L);
+                fieldValues.putLong(MILLI_OF_SECOND, 0L);
             }
         }
     }
 
     private void resolveInstant() {
         if (date != null && time != null) {
-            Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-            if (offsetSecs != null) {
-                ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
+            if (fieldValues.contains(OFFSET_SECONDS)) {
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
                 long instant = date.atTime(time).atZone(offset).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
+                fieldValues.putLong(INSTANT_SECONDS, instant);
             }  else if (zone != null) {
                 long instant = date.atTime(time).atZone(zone).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
+                fieldValues.putLong(INSTANT_SECONDS, instant);
             }
         }
     }
@@ -55,11 +55,14 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -1064,7 +1067,7 @@ public final class DateTimeFormatter {
         if (this.locale.equals(locale)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser.withLocale(locale), locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
     }
 
     //-----------------------------------------------------------------------
@@ -1377,6 +1380,10 @@ public final class DateTimeFormatter {
     public void formatTo(TemporalAccessor temporal, Appendable appendable) {
         Objects.requireNonNull(temporal, "temporal");
         Objects.requireNonNull(appendable, "appendable");
+        // GWT specific - fixed layout of the ISO constants
+        if (appendable instanceof StringBuilder && IsoFormats.print(this, temporal, (StringBuilder) appendable)) {
+            return;
+        }
         try {
             DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
@@ -1483,9 +1490,64 @@ public final class DateTimeFormatter {
     public <T> T parse(CharSequence text, TemporalQuery<T> type) {
         Objects.requireNonNull(text, "text");
         Objects.requireNonNull(type, "query");
+        return parse(text, type, null, null);
+    }
+
+    /**
+     * Fully parses the texts producing objects of the specified type.
+     * <p>
+     * This is equivalent to calling {@link #parse(CharSequence, TemporalQuery)}
+     * for every text, but the parse context and the builder of the parsed fields
+     * are created once and reused for all the texts. The query must not keep the
+     * temporal object passed to it.
+     * <p>
+     * This method is not found in Java SE.
+     *
+     * @param <T> the type to extract
+     * @param texts  the texts to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-times in the order of the texts, not null
+     * @throws DateTimeParseException if unable to parse any of the texts
+     */
+    // GWT specific
+    public <T> List<T> parseAll(Iterable<? extends CharSequence> texts, TemporalQuery<T> type) {
+        Objects.requireNonNull(texts, "texts");
+        Objects.requireNonNull(type, "query");
+        DateTimeParseContext context = new DateTimeParseContext(this);
+        DateTimeBuilder builder = new DateTimeBuilder();
+        List<T> result = new ArrayList<T>();
+        for (CharSequence text : texts) {
+            Objects.requireNonNull(text, "text");
+            result.add(parse(text, type, context, builder));
+        }
+        return result;
+    }
+
+    /**
+     * Fully parses the text, reusing the context and the builder if not null.
+     */
+    // GWT specific
+    private <T> T parse(CharSequence text, TemporalQuery<T> type, DateTimeParseContext context, DateTimeBuilder builder) {
+        // GWT specific - fixed layout of the ISO constants, the result answers the
+        // queries as the parsed fields except the precision and the chronology
+        // (LocalTime and Instant have none, the parsed fields the ISO one)
+        if (type != TemporalQueries.precision() && type != TemporalQueries.chronology()) {
+            TemporalAccessor parsed = IsoFormats.parse(this, text);
+            if (parsed != null) {
+                try {
+                    return type.queryFrom(parsed);
+                } catch (RuntimeException ex) {
+                    // the general engine creates the error
+                }
+            }
+        }
         try {
-			DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
-			return builder.build(type);
+            if (context != null) {
+                context.reset();
+                builder.reset();
+            }
+			DateTimeBuilder resolved = parseToBuilder(text, null, context, builder).resolve(resolverStyle, resolverFields);
+			return resolved.build(type);
         } catch (DateTimeParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
@@ -1570,8 +1632,16 @@ public final class DateTimeFormatter {
      * @throws DateTimeParseException if the parse fails
      */
     private DateTimeBuilder parseToBuilder(final CharSequence text, final ParsePosition position) {
+        return parseToBuilder(text, position, null, null);
+    }
+
+    /**
+     * Parses the text to a builder, reusing the context and the builder if not null.
+     */
+    // GWT specific
+    private DateTimeBuilder parseToBuilder(final CharSequence text, final ParsePosition position, DateTimeParseContext context, DateTimeBuilder builder) {
         ParsePosition pos = (position != null ? position : new ParsePosition(0));
-        Parsed result = parseUnresolved0(text, pos);
+        Parsed result = parseUnresolved0(text, pos, context != null ? context : new DateTimeParseContext(this));
         if (result == null || pos.getErrorIndex() >= 0 || (position == null && pos.getIndex() < text.length())) {
             String abbr = "";
             if (text.length() > 64) {
@@ -1587,7 +1657,7 @@ public final class DateTimeFormatter {
                         pos.getIndex(), text, pos.getIndex());
             }
         }
-        return result.toBuilder();
+        return builder != null ? result.toBuilder(builder) : result.toBuilder();
     }
 
     /**
@@ -1634,9 +1704,13 @@ public final class DateTimeFormatter {
     }
 
     private Parsed parseUnresolved0(CharSequence text, ParsePosition position) {
+        return parseUnresolved0(text, position, new DateTimeParseContext(this));
+    }
+
+    // GWT specific
+    private Parsed parseUnresolved0(CharSequence text, ParsePosition position, DateTimeParseContext context) {
         Objects.requireNonNull(text, "text");
         Objects.requireNonNull(position, "position");
-        DateTimeParseContext context = new DateTimeParseContext(this);
         int pos = position.getIndex();
         pos = printerParser.parse(context, text, pos);
         if (pos < 0) {
@@ -79,6 +79,8 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -1886,7 +1888,7 @@ public final class DateTimeFormatterBuilder {
         while (active.parent != null) {
             optionalEnd();
         }
-        CompositePrinterParser pp = new CompositePrinterParser(printerParsers, false);
+        CompositePrinterParser pp = new CompositePrinterParser(printerParsers, false).withLocale(locale);
         return new DateTimeFormatter(pp, locale, DecimalStyle.STANDARD, ResolverStyle.SMART, null, null, null);
     }
 
@@ -1986,6 +1988,33 @@ public final class DateTimeFormatterBuilder {
             return new CompositePrinterParser(printerParsers, optional);
         }
 
+        /**
+         * Returns a copy of this printer-parser with the text printers bound to the locale.
+         *
+         * @param locale  the locale of the formatter, not null
+         * @return the printer-parser, this if there is nothing to bind, not null
+         */
+        // GWT specific
+        CompositePrinterParser withLocale(Locale locale) {
+            DateTimePrinterParser[] bound = null;
+            for (int i = 0; i < printerParsers.length; i++) {
+                DateTimePrinterParser pp = printerParsers[i];
+                DateTimePrinterParser boundPP = pp;
+                if (pp instanceof CompositePrinterParser) {
+                    boundPP = ((CompositePrinterParser) pp).withLocale(locale);
+                } else if (pp instanceof TextPrinterParser) {
+                    boundPP = ((TextPrinterParser) pp).withLocale(locale);
+                }
+                if (boundPP != pp) {
+                    if (bound == null) {
+                        bound = printerParsers.clone();
+                    }
+                    bound[i] = boundPP;
+                }
+            }
+            return bound == null ? this : new CompositePrinterParser(bound, optional);
+        }
+
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             int length = buf.length();
@@ -2293,6 +2322,12 @@ public final class DateTimeFormatterBuilder {
         final int maxWidth;
         final SignStyle signStyle;
         final int subsequentWidth;
+        /**
+         * True to print small non-negative values as int digits, without boxing
+         * and the number text, not used by the subclasses adjusting the value.
+         */
+        // GWT specific
+        private final boolean intPrint;
 
         /**
          * Constructor.
@@ -2309,6 +2344,7 @@ public final class DateTimeFormatterBuilder {
             this.maxWidth = maxWidth;
             this.signStyle = signStyle;
             this.subsequentWidth = 0;
+            this.intPrint = getClass() == NumberPrinterParser.class;
         }
 
         /**
@@ -2328,6 +2364,7 @@ public final class DateTimeFormatterBuilder {
             this.maxWidth = maxWidth;
             this.signStyle = signStyle;
             this.subsequentWidth = subsequentWidth;
+            this.intPrint = getClass() == NumberPrinterParser.class;
         }
 
         /**
@@ -2354,6 +2391,14 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
+            // GWT specific
+            if (intPrint && context.getSymbols().getZeroDigit() == '0') {
+                // absent, negative and large values take the general path
+                long value = context.getLongValue(field, -1);
+                if (value >= 0 && value <= Integer.MAX_VALUE && printInt(context.getSymbols(), (int) value, buf)) {
+                    return true;
+                }
+            }
             Long valueLong = context.getValue(field);
             if (valueLong == null) {
                 return false;
@@ -2399,6 +2444,45 @@ public final class DateTimeFormatterBuilder {
             return true;
         }
 
+        /**
+         * Prints a non-negative value with the standard digits.
+         *
+         * @param symbols  the symbols with the zero digit '0', not null
+         * @param value  the value, not negative
+         * @param buf  the buffer to append to, not null
+         * @return false to use the general printing (and its errors)
+         */
+        // GWT specific
+        private boolean printInt(DecimalStyle symbols, int value, StringBuilder buf) {
+            int width = 1;
+            while (width < EXCEED_POINTS.length && value >= EXCEED_POINTS[width]) {
+                width++;
+            }
+            if (width > maxWidth) {
+                return false;
+            }
+            switch (signStyle) {
+                case EXCEEDS_PAD:
+                    if (width > minWidth) {
+                        buf.append(symbols.getPositiveSign());
+                    }
+                    break;
+                case ALWAYS:
+                    buf.append(symbols.getPositiveSign());
+                    break;
+            }
+            for (int i = width; i < minWidth; i++) {
+                buf.append('0');
+            }
+            for (int i = width - 1; i > 0; i--) {
+                int digit = value / EXCEED_POINTS[i];
+                buf.append((char) ('0' + digit));
+                value -= digit * EXCEED_POINTS[i];
+            }
+            buf.append((char) ('0' + value));
+            return true;
+        }
+
         /**
          * Gets the value to output.
          *
@@ -2829,9 +2913,24 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses field text.
      */
     static final class TextPrinterParser implements DateTimePrinterParser {
+        /** Marks that the provider has no text array. */
+        // GWT specific
+        private static final String[] NO_TEXTS = new String[0];
+
         private final TemporalField field;
         private final TextStyle textStyle;
         private final DateTimeTextProvider provider;
+        /**
+         * The locale of the formatter, null if not bound.
+         */
+        // GWT specific
+        private final Locale locale;
+        /**
+         * The cached texts of the bound locale, see {@link DateTimeTextProvider#getTextArray}.
+         * Immutable and volatile, so no synchronization needed.
+         */
+        // GWT specific
+        private volatile String[] texts;
         /**
          * The cached number printer parser.
          * Immutable and volatile, so no synchronization needed.
@@ -2847,9 +2946,30 @@ public final class DateTimeFormatterBuilder {
          */
         TextPrinterParser(TemporalField field, TextStyle textStyle, DateTimeTextProvider provider) {
             // validated by caller
+            this(field, textStyle, provider, null);
+        }
+
+        // GWT specific
+        private TextPrinterParser(TemporalField field, TextStyle textStyle, DateTimeTextProvider provider, Locale locale) {
             this.field = field;
             this.textStyle = textStyle;
             this.provider = provider;
+            this.locale = locale;
+        }
+
+        /**
+         * Returns a copy of this printer-parser bound to the locale.
+         * The texts of the locale are looked up once, on the first print.
+         *
+         * @param locale  the locale of the formatter, not null
+         * @return the printer-parser, not null
+         */
+        // GWT specific
+        TextPrinterParser withLocale(Locale locale) {
+            if (locale.equals(this.locale)) {
+                return this;
+            }
+            return new TextPrinterParser(field, textStyle, provider, locale);
         }
 
         @Override
@@ -2858,7 +2978,14 @@ public final class DateTimeFormatterBuilder {
             if (value == null) {
                 return false;
             }
-            String text = provider.getText(field, value, textStyle, context.getLocale());
+            String text;
+            String[] boundTexts = boundTexts(context.getLocale());
+            if (boundTexts != null) {
+                long index = value - field.range().getMinimum();
+                text = index >= 0 && index < boundTexts.length ? boundTexts[(int) index] : null;
+            } else {
+                text = provider.getText(field, value, textStyle, context.getLocale());
+            }
             if (text == null) {
                 return numberPrinterParser().print(context, buf);
             }
@@ -2866,6 +2993,25 @@ public final class DateTimeFormatterBuilder {
             return true;
         }
 
+        /**
+         * Gets the cached texts if this printer is bound to the locale.
+         *
+         * @param contextLocale  the locale of the context, not null
+         * @return the texts indexed from the field minimum, null to ask the provider
+         */
+        // GWT specific
+        private String[] boundTexts(Locale contextLocale) {
+            if (locale == null || (locale != contextLocale && !locale.equals(contextLocale))) {
+                return null;
+            }
+            String[] result = texts;
+            if (result == null) {
+                result = provider.getTextArray(field, textStyle, locale);
+                texts = result == null ? NO_TEXTS : result;
+            }
+            return result == NO_TEXTS ? null : result;
+        }
+
         @Override
         public int parse(DateTimeParseContext context, CharSequence parseText, int position) {
             int length = parseText.length();
@@ -3360,6 +3506,10 @@ public final class DateTimeFormatterBuilder {
                 return cmp;
             }
         };
+        /** Cache of zone display names keyed by zone ID, daylight, style and locale. */
+        private static final ConcurrentMap<String, String> DISPLAY_NAME_CACHE = new ConcurrentHashMap<String, String>(16, 0.75f);
+        /** Cache of parse trees keyed by style, locale and case sensitivity, with the count of zone IDs used. */
+        private static final ConcurrentMap<String, Entry<Integer, ZoneNameTree>> PARSE_TREE_CACHE = new ConcurrentHashMap<String, Entry<Integer, ZoneNameTree>>(16, 0.75f);
         /** The text style to output. */
         private final TextStyle textStyle;
 
@@ -3386,7 +3536,7 @@ public final class DateTimeFormatterBuilder {
             }
 			// GWT Specific
             String style = textStyle.asNormal() == TextStyle.FULL ? "long" :"short";
-			String text = Support.displayTimeZone(daylight, zone.getId(), style, context.getLocale().toLanguageTag());
+			String text = displayName(daylight, zone.getId(), style, context.getLocale());
 //            TimeZone tz = TimeZone.getTimeZone(zone.getId());
 //            int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
 //            String text = tz.getDisplayName(daylight, tzstyle, context.getLocale());
@@ -3422,15 +3572,57 @@ public final class DateTimeFormatterBuilder {
             }
 			LOGGER.debug("parse {} from position {} in context {}", text, position, context);
 
+            ZoneNameTree tree = getParseTree(context.getLocale(), context.isCaseSensitive());
+            ZoneNameTree match = tree.longestMatch(text, position, context.isCaseSensitive());
+            if (match != null) {
+                context.setParsed(ZoneId.of(match.zoneId));
+                return position + match.length;
+            }
+            if (first == 'Z') {
+                context.setParsed(ZoneOffset.UTC);
+                return position + 1;
+            }
+            return ~position;
+        }
+
+		/**
+		 * Gets the parse tree for the locale, building it on first use and again
+		 * whenever the set of available zone IDs changes.
+		 *
+		 * @param locale  the locale, not null
+		 * @param caseSensitive  whether the tree should match case sensitively
+		 * @return the tree, not null
+		 */
+		private ZoneNameTree getParseTree(Locale locale, boolean caseSensitive) {
+			Set<String> regionIds = ZoneId.getAvailableZoneIds();
+			int regionIdsSize = regionIds.size();
+			String key = textStyle.asNormal().name() + '|' + locale.toLanguageTag() + (caseSensitive ? "|CS" : "|CI");
+			Entry<Integer, ZoneNameTree> cached = PARSE_TREE_CACHE.get(key);
+			if (cached == null || cached.getKey() != regionIdsSize) {
+				cached = new SimpleImmutableEntry<Integer, ZoneNameTree>(regionIdsSize, prepareParser(regionIds, locale, caseSensitive));
+				PARSE_TREE_CACHE.put(key, cached);
+			}
+			return cached.getValue();
+		}
+
+		/**
+		 * Builds the parse tree of zone IDs and their winter and summer names.
+		 *
+		 * @param regionIds  the available zone IDs, not null
+		 * @param locale  the locale, not null
+		 * @param caseSensitive  whether the tree should match case sensitively
+		 * @return the tree, not null
+		 */
+		private ZoneNameTree prepareParser(Set<String> regionIds, Locale locale, boolean caseSensitive) {
             // this is a poor implementation that handles some but not all of the spec
             // JDK8 has a lot of extra information here
             Map<String, String> ids = new TreeMap<String, String>(LENGTH_COMPARATOR);
 			String style = textStyle.asNormal() == TextStyle.FULL ? "long" : "short";
-            for (String id : ZoneId.getAvailableZoneIds()) {
+            for (String id : regionIds) {
                 ids.put(id, id);
 				LOGGER.debug("put key {} for ZoneId {}", id, id);
 				// GWT Specific
-				String textWinter = Support.displayTimeZone(false, id, style, context.getLocale().toLanguageTag());
+				String textWinter = displayName(false, id, style, locale);
 //                TimeZone tz = TimeZone.getTimeZone(id);
 //                int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
 //                String textWinter = tz.getDisplayName(false, tzstyle, context.getLocale());
@@ -3440,25 +3632,40 @@ public final class DateTimeFormatterBuilder {
                 }
 				// GWT Specific
 //              String textSummer = tz.getDisplayName(true, tzstyle, context.getLocale());
-				String textSummer = Support.displayTimeZone(true, id, style, context.getLocale().toLanguageTag());
+				String textSummer = displayName(true, id, style, locale);
 				if (id.startsWith("Etc/") || (!textSummer.startsWith("GMT+") && !textSummer.startsWith("GMT-"))) {
 					ids.put(normalizedZoneCustomId(textSummer), id);
 					LOGGER.debug("put key {} for ZoneId {}", normalizedZoneCustomId(textSummer), id);
                 }
             }
-            for (Entry<String, String> entry : ids.entrySet()) {
-                String name = entry.getKey();
-                if (context.subSequenceEquals(text, position, name, 0, name.length())) {
-                    context.setParsed(ZoneId.of(entry.getValue()));
-                    return position + name.length();
-                }
-            }
-            if (first == 'Z') {
-                context.setParsed(ZoneOffset.UTC);
-                return position + 1;
-            }
-            return ~position;
-        }
+			ZoneNameTree tree = new ZoneNameTree(0);
+			for (Entry<String, String> entry : ids.entrySet()) {
+				tree.add(entry.getKey(), entry.getValue(), caseSensitive);
+			}
+			return tree;
+		}
+
+		// GWT Specific
+		/**
+		 * Gets the display name of the zone, calling the browser only once for
+		 * each combination of zone, daylight, style and locale.
+		 *
+		 * @param daylight  true for the summer name
+		 * @param id  the zone ID, not null
+		 * @param style  the JS style, "long" or "short"
+		 * @param locale  the locale, not null
+		 * @return the display name, not null
+		 */
+		private static String displayName(boolean daylight, String id, String style, Locale locale) {
+			String tag = locale.toLanguageTag();
+			String key = id + (daylight ? "|D|" : "|S|") + style + '|' + tag;
+			String name = DISPLAY_NAME_CACHE.get(key);
+			if (name == null) {
+				name = Support.displayTimeZone(daylight, id, style, tag);
+				DISPLAY_NAME_CACHE.putIfAbsent(key, name);
+			}
+			return name;
+		}
 
         private int parseOffset(DateTimeParseContext context, CharSequence text, int position, String prefix) {
             int prefixLen = prefix.length();
@@ -3562,6 +3769,91 @@ public final class DateTimeFormatterBuilder {
         public String toString() {
             return "ZoneText(" + textStyle + ")";
         }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Model a prefix tree of zone names to make the parsing easier.
+         * <p>
+         * Each node is reached by one character of a name and holds the zone ID
+         * if a name ends at that node. Parsing walks the tree along the text and
+         * keeps the deepest node with a zone ID, which is the longest matching name.
+         * A case insensitive tree is keyed by case folded characters.
+         */
+        private static final class ZoneNameTree {
+            /**
+             * The length of the name prefix this node represents.
+             */
+            final int length;
+            /**
+             * Map of the next character to the sub-node.
+             */
+            private final Map<Character, ZoneNameTree> children = new HashMap<Character, ZoneNameTree>();
+            /**
+             * The zone ID of the name ending at this node, null if none.
+             */
+            private String zoneId;
+
+            /**
+             * Constructor.
+             *
+             * @param length  the length of the prefix
+             */
+            private ZoneNameTree(int length) {
+                this.length = length;
+            }
+
+            /**
+             * Adds a name, keeping an existing zone ID for the same name.
+             * Names must be added in the preferred order.
+             *
+             * @param name  the name to add, not null
+             * @param id  the zone ID, not null
+             * @param caseSensitive  whether the tree is case sensitive
+             */
+            private void add(String name, String id, boolean caseSensitive) {
+                ZoneNameTree node = this;
+                for (int i = 0; i < name.length(); i++) {
+                    Character key = key(name.charAt(i), caseSensitive);
+                    ZoneNameTree child = node.children.get(key);
+                    if (child == null) {
+                        child = new ZoneNameTree(i + 1);
+                        node.children.put(key, child);
+                    }
+                    node = child;
+                }
+                if (node.zoneId == null) {
+                    node.zoneId = id;
+                }
+            }
+
+            /**
+             * Finds the longest name at the position.
+             *
+             * @param text  the text to match, not null
+             * @param position  the position to start from
+             * @param caseSensitive  whether the tree is case sensitive
+             * @return the node of the longest name, null if none matches
+             */
+            private ZoneNameTree longestMatch(CharSequence text, int position, boolean caseSensitive) {
+                ZoneNameTree match = null;
+                ZoneNameTree node = this;
+                int len = text.length();
+                for (int pos = position; pos < len; pos++) {
+                    node = node.children.get(key(text.charAt(pos), caseSensitive));
+                    if (node == null) {
+                        break;
+                    }
+                    if (node.zoneId != null) {
+                        match = node;
+                    }
+                }
+                return match;
+            }
+
+            private static Character key(char ch, boolean caseSensitive) {
+                return caseSensitive ? ch : Character.toLowerCase(Character.toUpperCase(ch));
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
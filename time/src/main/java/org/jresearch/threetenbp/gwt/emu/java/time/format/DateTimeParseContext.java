@@ -39,17 +39,16 @@ import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeParseContext;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DecimalStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder.ReducedPrinterParser;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -133,6 +132,20 @@ final class DateTimeParseContext {
         parsed.add(new Parsed());
     }
 
+    /**
+     * Clears the parsed data and the case and strict settings, so the context
+     * can parse the next text of the same formatter.
+     */
+    // GWT specific
+    void reset() {
+        Parsed current = currentParsed();
+        current.clear();
+        parsed.clear();
+        parsed.add(current);
+        caseSensitive = true;
+        strict = true;
+    }
+
     /**
      * Creates a copy of this context.
      */
@@ -345,6 +358,14 @@ final class DateTimeParseContext {
      */
     int setParsedField(TemporalField field, long value, int errorPos, int successPos) {
         Objects.requireNonNull(field, "field");
+        if (field instanceof ChronoField) {
+            // GWT specific: without boxing
+            FieldValues fieldValues = currentParsed().fieldValues;
+            ChronoField chronoField = (ChronoField) field;
+            boolean conflict = fieldValues.contains(chronoField) && fieldValues.getLong(chronoField) != value;
+            fieldValues.putLong(chronoField, value);
+            return conflict ? ~errorPos : successPos;
+        }
         Long old = currentParsed().fieldValues.put(field, value);
         return (old != null && old.longValue() != value) ? ~errorPos : successPos;
     }
@@ -428,13 +449,23 @@ final class DateTimeParseContext {
     final class Parsed implements TemporalAccessor {
         Chronology chrono = null;
         ZoneId zone = null;
-        final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        // GWT specific
+        final FieldValues fieldValues = new FieldValues();
         boolean leapSecond;
         Period excessDays = Period.ZERO;
         List<Object[]> callbacks;
 
         private Parsed() {
         }
+        // GWT specific
+        private void clear() {
+            chrono = null;
+            zone = null;
+            fieldValues.clear();
+            leapSecond = false;
+            excessDays = Period.ZERO;
+            callbacks = null;
+        }
         protected Parsed copy() {
             Parsed cloned = new Parsed();
             cloned.chrono = this.chrono;
@@ -495,7 +526,14 @@ final class DateTimeParseContext {
          * @return a new builder with the results of the parse, not null
          */
         DateTimeBuilder toBuilder() {
-            DateTimeBuilder builder = new DateTimeBuilder();
+            return toBuilder(new DateTimeBuilder());
+        }
+
+        /**
+         * Copies the parsed data to the empty builder.
+         */
+        // GWT specific
+        DateTimeBuilder toBuilder(DateTimeBuilder builder) {
             builder.fieldValues.putAll(fieldValues);
             builder.chrono = getEffectiveChronology();
             if (zone != null) {
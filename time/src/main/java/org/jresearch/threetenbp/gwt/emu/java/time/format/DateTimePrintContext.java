@@ -288,6 +288,26 @@ final class DateTimePrintContext {
         }
     }
 
+    /**
+     * Gets the value of the specified field without boxing.
+     *
+     * @param field  the field to find, not null
+     * @param absent  the value to return if not found and optional is true
+     * @return the value, {@code absent} if not found and optional is true
+     * @throws DateTimeException if the field is not available and the section is not optional
+     */
+    // GWT specific
+    long getLongValue(TemporalField field, long absent) {
+        try {
+            return temporal.getLong(field);
+        } catch (DateTimeException ex) {
+            if (optional > 0) {
+                return absent;
+            }
+            throw ex;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string version of the context for debugging.
@@ -113,6 +113,23 @@ abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets all the texts of the field for the specified locale and style
+     * for the purpose of printing.
+     * <p>
+     * The text of a value is at the index {@code value - field.range().getMinimum()},
+     * a missing text is null. The array must not be altered.
+     *
+     * @param field  the field to get text for, not null
+     * @param style  the style to get text for, not null
+     * @param locale  the locale to get text for, not null
+     * @return the texts of the field, null if the texts are not available as an array
+     */
+    //GWT specific
+    String[] getTextArray(TemporalField field, TextStyle style, Locale locale) {
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     // use JVM class initializtion to lock the singleton without additional synchronization
     //GWT specific
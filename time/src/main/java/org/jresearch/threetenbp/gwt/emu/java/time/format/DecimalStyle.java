@@ -31,7 +31,6 @@
  */
 package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Objects;
@@ -93,10 +92,7 @@ public final class DecimalStyle {
 	 */
 	// GWT Specific
 	public static Set<Locale> getAvailableLocales() {
-		Locale[] locales = Support.supportedLocalesOfNumberFormat(Locale.getAvailableLocales());
-		HashSet<Locale> result = new HashSet<>(locales.length);
-		Collections.addAll(result, locales);
-		return result;
+		return new HashSet<>(Support.availableLocalesOfNumberFormat());
 	}
 
 	/**
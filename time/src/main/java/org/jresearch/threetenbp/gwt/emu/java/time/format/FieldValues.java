@@ -0,0 +1,236 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+
+/**
+ * The map of parsed field values used by {@link DateTimeBuilder} and the parse context.
+ * <p>
+ * The {@link ChronoField} values are stored in a {@code long} array indexed by the
+ * ordinal with an {@code int} mask of the present fields, only the other fields use
+ * a hash map. The primitive accessors ({@link #contains(ChronoField)},
+ * {@link #getLong(ChronoField)}, ...) avoid the boxed {@code Long} values, the
+ * {@code Map} methods are kept for the {@code TemporalField.resolve} and
+ * {@code Chronology.resolveDate} contracts.
+ * <p>
+ * The iteration order is the ordinal order of the {@code ChronoField} values followed
+ * by the other fields. Removing via the iterators is supported.
+ */
+// GWT specific
+final class FieldValues extends AbstractMap<TemporalField, Long> {
+
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+
+    /** The ChronoField values, valid only if the bit of the ordinal is set in the mask */
+    private final long[] values = new long[CHRONO_FIELDS.length];
+    /** The present ChronoField values, there are less than 32 fields */
+    private int mask;
+    /** The other fields, null until the first one is added */
+    private Map<TemporalField, Long> others;
+    private Set<Entry<TemporalField, Long>> entrySet;
+
+    //-----------------------------------------------------------------------
+    boolean contains(ChronoField field) {
+        return (mask & (1 << field.ordinal())) != 0;
+    }
+
+    /**
+     * @return the value, only valid if the field is present
+     */
+    long getLong(ChronoField field) {
+        return values[field.ordinal()];
+    }
+
+    void putLong(ChronoField field, long value) {
+        int ordinal = field.ordinal();
+        values[ordinal] = value;
+        mask |= 1 << ordinal;
+    }
+
+    /**
+     * @return the removed value, only valid if the field was present
+     */
+    long removeLong(ChronoField field) {
+        int ordinal = field.ordinal();
+        mask &= ~(1 << ordinal);
+        return values[ordinal];
+    }
+
+    /**
+     * @return true if there are fields other than {@code ChronoField}
+     */
+    boolean hasOthers() {
+        return others != null && others.isEmpty() == false;
+    }
+
+    /**
+     * @return the fields other than {@code ChronoField}, modifiable
+     */
+    Set<TemporalField> otherFields() {
+        return others().keySet();
+    }
+
+    private Map<TemporalField, Long> others() {
+        if (others == null) {
+            others = new HashMap<TemporalField, Long>();
+        }
+        return others;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return Integer.bitCount(mask) + (others == null ? 0 : others.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mask == 0 && hasOthers() == false;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof ChronoField) {
+            return contains((ChronoField) key);
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Long get(Object key) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            return contains(field) ? Long.valueOf(getLong(field)) : null;
+        }
+        return others == null ? null : others.get(key);
+    }
+
+    @Override
+    public Long put(TemporalField key, Long value) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            Long old = get(field);
+            putLong(field, value);
+            return old;
+        }
+        return others().put(key, value);
+    }
+
+    @Override
+    public Long remove(Object key) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            Long old = get(field);
+            removeLong(field);
+            return old;
+        }
+        return others == null ? null : others.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends TemporalField, ? extends Long> map) {
+        if (map instanceof FieldValues) {
+            FieldValues source = (FieldValues) map;
+            int bits = source.mask;
+            while (bits != 0) {
+                int ordinal = Integer.numberOfTrailingZeros(bits);
+                values[ordinal] = source.values[ordinal];
+                bits &= bits - 1;
+            }
+            mask |= source.mask;
+            if (source.hasOthers()) {
+                others().putAll(source.others);
+            }
+        } else {
+            super.putAll(map);
+        }
+    }
+
+    @Override
+    public void clear() {
+        mask = 0;
+        if (others != null) {
+            others.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<TemporalField, Long>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<TemporalField, Long>>() {
+                @Override
+                public Iterator<Entry<TemporalField, Long>> iterator() {
+                    return new EntryIterator();
+                }
+                @Override
+                public int size() {
+                    return FieldValues.this.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterates the present slots, then the other fields.
+     * The slots are read live, so the values removed meanwhile are skipped.
+     */
+    private final class EntryIterator implements Iterator<Entry<TemporalField, Long>> {
+
+        private int next;
+        private int current = -1;
+        private Iterator<Entry<TemporalField, Long>> othersIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (othersIterator == null) {
+                int bits = next < CHRONO_FIELDS.length ? mask & (-1 << next) : 0;
+                if (bits != 0) {
+                    next = Integer.numberOfTrailingZeros(bits);
+                    return true;
+                }
+                next = CHRONO_FIELDS.length;
+                if (hasOthers() == false) {
+                    return false;
+                }
+                othersIterator = others.entrySet().iterator();
+            }
+            return othersIterator.hasNext();
+        }
+
+        @Override
+        public Entry<TemporalField, Long> next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            if (othersIterator != null) {
+                current = -1;
+                return othersIterator.next();
+            }
+            current = next++;
+            return new SimpleImmutableEntry<TemporalField, Long>(CHRONO_FIELDS[current], values[current]);
+        }
+
+        @Override
+        public void remove() {
+            if (current >= 0) {
+                mask &= ~(1 << current);
+                current = -1;
+            } else if (othersIterator != null) {
+                othersIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+}
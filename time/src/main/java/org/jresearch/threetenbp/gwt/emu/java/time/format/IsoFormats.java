@@ -0,0 +1,348 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.OffsetDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+
+/**
+ * Fixed layout printing and parsing for the most used ISO formatters
+ * ({@link DateTimeFormatter#ISO_LOCAL_DATE}, {@link DateTimeFormatter#ISO_LOCAL_TIME},
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+ * and {@link DateTimeFormatter#ISO_INSTANT}).
+ * <p>
+ * The fields are read from the date-time objects directly, without the print
+ * context and the printer-parser chain. Only the common cases (years 0000 to
+ * 9999, upper case 'T' and 'Z', ...) are handled, everything else returns a
+ * miss and is left to the general engine, so the results and the errors are
+ * the same.
+ */
+// GWT specific
+final class IsoFormats {
+
+    private static final long SECONDS_0000 = -62167219200L;
+    private static final long SECONDS_10000 = 253402300800L;
+
+    private IsoFormats() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prints the temporal if the formatter is one of the ISO constants and the
+     * temporal has a fixed layout.
+     *
+     * @param formatter  the formatter, not null
+     * @param temporal  the temporal to print, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false to use the general engine (nothing appended)
+     */
+    static boolean print(DateTimeFormatter formatter, TemporalAccessor temporal, StringBuilder buf) {
+        if (formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+            LocalDate date = toLocalDate(temporal);
+            return date != null && printDate(date, buf);
+        }
+        if (formatter == DateTimeFormatter.ISO_LOCAL_TIME) {
+            LocalTime time = toLocalTime(temporal);
+            if (time == null) {
+                return false;
+            }
+            printTime(time, buf);
+            return true;
+        }
+        if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            LocalDateTime dateTime = toLocalDateTime(temporal);
+            return dateTime != null && printDateTime(dateTime, buf);
+        }
+        if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+            if (temporal instanceof OffsetDateTime) {
+                OffsetDateTime odt = (OffsetDateTime) temporal;
+                if (printDateTime(odt.toLocalDateTime(), buf)) {
+                    buf.append(odt.getOffset().getId());
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (formatter == DateTimeFormatter.ISO_INSTANT) {
+            return temporal instanceof Instant && printInstant((Instant) temporal, buf);
+        }
+        return false;
+    }
+
+    private static LocalDate toLocalDate(TemporalAccessor temporal) {
+        if (temporal instanceof LocalDate) {
+            return (LocalDate) temporal;
+        }
+        LocalDateTime dateTime = toLocalDateTime(temporal);
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
+    private static LocalTime toLocalTime(TemporalAccessor temporal) {
+        if (temporal instanceof LocalTime) {
+            return (LocalTime) temporal;
+        }
+        LocalDateTime dateTime = toLocalDateTime(temporal);
+        return dateTime != null ? dateTime.toLocalTime() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(TemporalAccessor temporal) {
+        if (temporal instanceof LocalDateTime) {
+            return (LocalDateTime) temporal;
+        }
+        if (temporal instanceof OffsetDateTime) {
+            return ((OffsetDateTime) temporal).toLocalDateTime();
+        }
+        return null;
+    }
+
+    private static boolean printDateTime(LocalDateTime dateTime, StringBuilder buf) {
+        if (printDate(dateTime.toLocalDate(), buf)) {
+            buf.append('T');
+            printTime(dateTime.toLocalTime(), buf);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean printDate(LocalDate date, StringBuilder buf) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            // sign and wider years
+            return false;
+        }
+        append4(year, buf);
+        buf.append('-');
+        append2(date.getMonthValue(), buf);
+        buf.append('-');
+        append2(date.getDayOfMonth(), buf);
+        return true;
+    }
+
+    private static void printTime(LocalTime time, StringBuilder buf) {
+        append2(time.getHour(), buf);
+        buf.append(':');
+        append2(time.getMinute(), buf);
+        buf.append(':');
+        append2(time.getSecond(), buf);
+        int nano = time.getNano();
+        if (nano != 0) {
+            // fraction without the trailing zeros
+            buf.append('.');
+            int div = 100000000;
+            while (nano != 0) {
+                int digit = nano / div;
+                buf.append((char) ('0' + digit));
+                nano -= digit * div;
+                div /= 10;
+            }
+        }
+    }
+
+    private static boolean printInstant(Instant instant, StringBuilder buf) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < SECONDS_0000 || epochSecond >= SECONDS_10000) {
+            return false;
+        }
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        printDate(dateTime.toLocalDate(), buf);
+        buf.append('T');
+        printTime(dateTime.toLocalTime(), buf);
+        int nano = instant.getNano();
+        if (nano != 0) {
+            // groups of three digits
+            buf.append('.');
+            if (nano % 1000000 == 0) {
+                append3(nano / 1000000, buf);
+            } else if (nano % 1000 == 0) {
+                append3(nano / 1000000, buf);
+                append3(nano / 1000 % 1000, buf);
+            } else {
+                append3(nano / 1000000, buf);
+                append3(nano / 1000 % 1000, buf);
+                append3(nano % 1000, buf);
+            }
+        }
+        buf.append('Z');
+        return true;
+    }
+
+    private static void append2(int value, StringBuilder buf) {
+        buf.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void append3(int value, StringBuilder buf) {
+        buf.append((char) ('0' + value / 100));
+        append2(value % 100, buf);
+    }
+
+    private static void append4(int value, StringBuilder buf) {
+        append2(value / 100, buf);
+        append2(value % 100, buf);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text if the formatter is one of the ISO constants and the text
+     * has the fixed layout.
+     *
+     * @param formatter  the formatter, not null
+     * @param text  the text to parse, not null
+     * @return the parsed {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime},
+     *  {@code OffsetDateTime} or {@code Instant}, null to use the general engine
+     */
+    static TemporalAccessor parse(DateTimeFormatter formatter, CharSequence text) {
+        try {
+            if (formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+                return text.length() == 10 ? parseDate(text) : null;
+            }
+            if (formatter == DateTimeFormatter.ISO_LOCAL_TIME) {
+                return parseTime(text, 0, text.length(), false);
+            }
+            if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+                return parseDateTime(text, text.length());
+            }
+            if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+                return parseOffsetDateTime(text);
+            }
+            if (formatter == DateTimeFormatter.ISO_INSTANT) {
+                return parseInstant(text);
+            }
+        } catch (RuntimeException ex) {
+            // invalid values, the general engine creates the error
+        }
+        return null;
+    }
+
+    private static LocalDate parseDate(CharSequence text) {
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (year < 0 || month < 0 || day < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Parses HH:mm[:ss[.fraction]] from the position to the end.
+     */
+    private static LocalTime parseTime(CharSequence text, int position, int end, boolean secondsRequired) {
+        int length = end - position;
+        if (length < 5 || text.charAt(position + 2) != ':') {
+            return null;
+        }
+        int hour = digits(text, position, 2);
+        int minute = digits(text, position + 3, 2);
+        if (hour < 0 || minute < 0) {
+            return null;
+        }
+        if (length == 5) {
+            return secondsRequired ? null : LocalTime.of(hour, minute);
+        }
+        if (length < 8 || text.charAt(position + 5) != ':') {
+            return null;
+        }
+        int second = digits(text, position + 6, 2);
+        if (second < 0) {
+            return null;
+        }
+        if (length == 8) {
+            return LocalTime.of(hour, minute, second);
+        }
+        int fractionDigits = length - 9;
+        if (text.charAt(position + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+            return null;
+        }
+        int nano = digits(text, position + 9, fractionDigits);
+        if (nano < 0) {
+            return null;
+        }
+        for (int i = fractionDigits; i < 9; i++) {
+            nano *= 10;
+        }
+        return LocalTime.of(hour, minute, second, nano);
+    }
+
+    private static LocalDateTime parseDateTime(CharSequence text, int end) {
+        if (end < 16 || text.charAt(10) != 'T') {
+            return null;
+        }
+        LocalDate date = parseDate(text);
+        LocalTime time = date == null ? null : parseTime(text, 11, end, false);
+        return time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    private static OffsetDateTime parseOffsetDateTime(CharSequence text) {
+        int length = text.length();
+        if (length < 17) {
+            return null;
+        }
+        int offsetStart;
+        ZoneOffset offset;
+        if (text.charAt(length - 1) == 'Z') {
+            offsetStart = length - 1;
+            offset = ZoneOffset.UTC;
+        } else {
+            offsetStart = offsetStart(text, length);
+            if (offsetStart < 0) {
+                return null;
+            }
+            int hours = digits(text, offsetStart + 1, 2);
+            int minutes = digits(text, offsetStart + 4, 2);
+            int seconds = offsetStart + 6 < length ? digits(text, offsetStart + 7, 2) : 0;
+            if (hours < 0 || minutes < 0 || seconds < 0) {
+                return null;
+            }
+            int sign = text.charAt(offsetStart) == '-' ? -1 : 1;
+            offset = ZoneOffset.ofHoursMinutesSeconds(sign * hours, sign * minutes, sign * seconds);
+        }
+        LocalDateTime dateTime = parseDateTime(text, offsetStart);
+        return dateTime == null ? null : OffsetDateTime.of(dateTime, offset);
+    }
+
+    /**
+     * @return the position of the sign of +HH:MM or +HH:MM:SS at the end of the text, -1 if none
+     */
+    private static int offsetStart(CharSequence text, int length) {
+        for (int offsetLength = 6; offsetLength <= 9; offsetLength += 3) {
+            int start = length - offsetLength;
+            char sign = text.charAt(start);
+            if ((sign == '+' || sign == '-') && text.charAt(start + 3) == ':' && (offsetLength == 6 || text.charAt(start + 6) == ':')) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static Instant parseInstant(CharSequence text) {
+        int length = text.length();
+        if (length < 20 || text.charAt(length - 1) != 'Z' || text.charAt(10) != 'T') {
+            return null;
+        }
+        LocalDate date = parseDate(text);
+        LocalTime time = date == null ? null : parseTime(text, 11, length - 1, true);
+        if (time == null) {
+            return null;
+        }
+        return LocalDateTime.of(date, time).toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * @return the value of the ASCII digits, -1 if any other character
+     */
+    private static int digits(CharSequence text, int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+}
@@ -32,12 +32,13 @@
 package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Stream;
 
 import org.jresearch.gwt.time.apt.base.Bases;
 import org.jresearch.gwt.time.apt.base.Chrono;
@@ -63,11 +64,16 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
     /** Cache of formatters. */
     private static final ConcurrentMap<String, Object> FORMATTER_CACHE =
                         new ConcurrentHashMap<String, Object>(16, 0.75f);
+    /** Index of the CLDR patterns by chronology and locale, one per pattern map, "" if not found. */
+    // GWT Specific
+    private static final ConcurrentMap<String, Map<Chrono, ConcurrentMap<Locale, String>>> PATTERN_INDEX =
+                        new ConcurrentHashMap<String, Map<Chrono, ConcurrentMap<Locale, String>>>(16, 0.75f);
 
     @Override
 	// GWT Specific
     public Locale[] getAvailableLocales() {
-		return Support.supportedLocalesOfDateTimeFormat(Locale.getAvailableLocales());
+		Set<Locale> locales = Support.availableLocalesOfDateTimeFormat();
+		return locales.toArray(new Locale[locales.size()]);
     }
 
     @Override
@@ -88,23 +94,19 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
 		String pattern = null;
 		Chrono c = Bases.ofJavaTime(chrono.getId()).orElse(Chrono.ISO);
 		if (dateStyle != null) {
-			Map<String, PatternCoordinates[]> dateMap = getDateMap(dateStyle);
-			String datePattern = getPattern(dateMap, c, locale);
+			String datePattern = getPattern("D" + dateStyle, getDateMap(dateStyle), c, locale);
 			if (timeStyle != null) {
-				Map<String, PatternCoordinates[]> timeMap = getTimeMap(timeStyle);
-				String timePattern = getPattern(timeMap, c, locale);
+				String timePattern = getPattern("T" + timeStyle, getTimeMap(timeStyle), c, locale);
 
 				FormatStyle dateTimeStyle = FormatStyle.values()[Math.min(dateStyle.ordinal(), timeStyle.ordinal())];
-				Map<String, PatternCoordinates[]> dateTimeMap = getDateTimeMap(dateTimeStyle);
-				String dateTimePattern = getPattern(dateTimeMap, c, locale);
+				String dateTimePattern = getPattern("DT" + dateTimeStyle, getDateTimeMap(dateTimeStyle), c, locale);
 
 				pattern = substitute(dateTimePattern, datePattern, timePattern);
 			} else {
 				pattern = datePattern;
 			}
 		} else {
-			Map<String, PatternCoordinates[]> timeMap = getTimeMap(timeStyle);
-			pattern = getPattern(timeMap, c, locale);
+			pattern = getPattern("T" + timeStyle, getTimeMap(timeStyle), c, locale);
 		}
 		if (pattern != null) {
 			DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
@@ -119,16 +121,50 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
 		return dateTimePattern.replace("{1}", datePattern).replace("{0}", timePattern).replace("'", "");
 	}
 
-	private static String getPattern(Map<String, PatternCoordinates[]> patterns, Chrono chrono, Locale locale) {
-		return patterns.entrySet().stream().filter(e -> isFor(e, chrono, locale)).findAny().map(Entry::getKey).orElseGet(() -> getPattern(patterns, chrono, up(locale)));
+	/**
+	 * @param indexKey - the key of the pattern map in the index cache
+	 * @return the pattern for the locale or the nearest parent locale, null if not found
+	 */
+	private static String getPattern(String indexKey, Map<String, PatternCoordinates[]> patterns, Chrono chrono, Locale locale) {
+		Map<Chrono, ConcurrentMap<Locale, String>> index = PATTERN_INDEX.get(indexKey);
+		if (index == null) {
+			PATTERN_INDEX.putIfAbsent(indexKey, index(patterns));
+			index = PATTERN_INDEX.get(indexKey);
+		}
+		ConcurrentMap<Locale, String> chronoIndex = index.get(chrono);
+		if (chronoIndex == null) {
+			return null;
+		}
+		String pattern = getPattern(chronoIndex, locale);
+		return pattern.isEmpty() ? null : pattern;
 	}
 
-	private static boolean isFor(Entry<String, PatternCoordinates[]> e, Chrono chrono, Locale locale) {
-		return Stream.of(e.getValue()).anyMatch(pc -> isFor(pc, chrono, locale));
+	/**
+	 * Looks up the locale chain, the result is stored for the requested locale,
+	 * so the chain is walked once per locale.
+	 */
+	private static String getPattern(ConcurrentMap<Locale, String> chronoIndex, Locale locale) {
+		String pattern = chronoIndex.get(locale);
+		if (pattern == null) {
+			pattern = Locale.ROOT.equals(locale) ? "" : getPattern(chronoIndex, up(locale));
+			chronoIndex.putIfAbsent(locale, pattern);
+		}
+		return pattern;
 	}
 
-	private static boolean isFor(PatternCoordinates pc, Chrono chrono, Locale locale) {
-		return chrono.equals(pc.chrono()) && locale.equals(pc.locale());
+	private static Map<Chrono, ConcurrentMap<Locale, String>> index(Map<String, PatternCoordinates[]> patterns) {
+		Map<Chrono, ConcurrentMap<Locale, String>> index = new HashMap<Chrono, ConcurrentMap<Locale, String>>();
+		for (Entry<String, PatternCoordinates[]> entry : patterns.entrySet()) {
+			for (PatternCoordinates pc : entry.getValue()) {
+				ConcurrentMap<Locale, String> chronoIndex = index.get(pc.chrono());
+				if (chronoIndex == null) {
+					chronoIndex = new ConcurrentHashMap<Locale, String>(16, 0.75f);
+					index.put(pc.chrono(), chronoIndex);
+				}
+				chronoIndex.putIfAbsent(pc.locale(), entry.getKey());
+			}
+		}
+		return index;
 	}
 
 	private static Locale up(Locale locale) {
@@ -36,7 +36,6 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DA
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ERA;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
-import org.jresearch.threetenbp.gwt.emu.java.time.Month;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.IsoEra;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
@@ -51,12 +50,14 @@ import java.util.Comparator;
 //import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,7 +86,7 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
 
 	// GWT specific
 	private static final int AM = 0;
-	private static final int PM = 1;
+	private static final TextStyle[] TEXT_STYLES = TextStyle.values();
 
     /** Cache. */
     private final ConcurrentMap<Entry<TemporalField, Locale>, Object> cache =
@@ -111,6 +112,16 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+	// GWT specific
+    @Override
+    String[] getTextArray(TemporalField field, TextStyle style, Locale locale) {
+        Object store = findStore(field, locale);
+        if (store instanceof LocaleStore && ((LocaleStore) store).getFirstValue() == field.range().getMinimum()) {
+            return ((LocaleStore) store).getTextArray(style);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
         Entry<TemporalField, Locale> key = createEntry(field, locale);
@@ -125,240 +136,20 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
 
 	// GWT specific
     private Object createStore(TemporalField field, Locale locale) {
+        // the stores fetch the texts of a style on its first use, the standalone
+        // am/pm and eras are the same as the normal ones
+        String tag = locale.toLanguageTag();
         if (field == MONTH_OF_YEAR) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-            Long f1 = 1L;
-            Long f2 = 2L;
-            Long f3 = 3L;
-            Long f4 = 4L;
-            Long f5 = 5L;
-            Long f6 = 6L;
-            Long f7 = 7L;
-            Long f8 = 8L;
-            Long f9 = 9L;
-            Long f10 = 10L;
-            Long f11 = 11L;
-            Long f12 = 12L;
-			String[] array = Support.displayMonths("long", false, locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayMonths("long", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.FULL_STANDALONE, map);
-
-			array = Support.displayMonths("short", false, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayMonths("short", true, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.SHORT_STANDALONE, map);
-
-			array = Support.displayMonths("narrow", false, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-            styleMap.put(TextStyle.NARROW, map);
-
-			array = Support.displayMonths("narrow", true, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.NARROW_STANDALONE, map);
-            return createLocaleStore(styleMap);
+            return new LocaleStore(1, style -> Support.displayMonths(width(style), style.isStandalone(), tag));
         }
         if (field == DAY_OF_WEEK) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-            Long f1 = 1L;
-            Long f2 = 2L;
-            Long f3 = 3L;
-            Long f4 = 4L;
-            Long f5 = 5L;
-            Long f6 = 6L;
-            Long f7 = 7L;
-
-			String[] array = Support.displayWeekdays("long", false, locale.toLanguageTag());
-			LOGGER.debug("weekdays, long, locale {}, formated {}", locale, array);
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayWeekdays("long", true, locale.toLanguageTag());
-			LOGGER.debug("weekdays, long, locale {}, standalone {}", locale, array);
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.FULL_STANDALONE, map);
-
-			array = Support.displayWeekdays("short", false, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayWeekdays("short", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.SHORT_STANDALONE, map);
-
-			array = Support.displayWeekdays("narrow", false, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.NARROW, map);
-
-			array = Support.displayWeekdays("narrow", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.NARROW_STANDALONE, map);
-            return createLocaleStore(styleMap);
+            return new LocaleStore(1, style -> Support.displayWeekdays(width(style), style.isStandalone(), tag));
         }
         if (field == AMPM_OF_DAY) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-
-			String[] array = Support.displayAmpm("long", locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(0L, array[AM]);
-			map.put(1L, array[PM]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayAmpm("short", locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(0L, array[AM]);
-			map.put(1L, array[PM]);
-			styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayAmpm("narrow", locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(0L, array[AM]);
-			map.put(1L, array[PM]);
-			styleMap.put(TextStyle.NARROW, map);
-
-            return createLocaleStore(styleMap);
+            return new LocaleStore(AM, style -> Support.displayAmpm(width(style), tag));
         }
         if (field == ERA) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-
-			String[] array = Support.displayEras("long", locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-			styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayEras("short", locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-            styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayEras("narrow", locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-            styleMap.put(TextStyle.NARROW, map);
-            return createLocaleStore(styleMap);
+            return new LocaleStore(IsoEra.BCE.getValue(), style -> Support.displayEras(width(style), tag));
         }
 		// GWT hard code English quarter text TODO
         if (field == IsoFields.QUARTER_OF_YEAR) {
@@ -380,6 +171,15 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return "";  // null marker for map
     }
 
+	/**
+	 * @return the width of the style for {@code Intl.DateTimeFormat}
+	 */
+	// GWT specific
+	private static String width(TextStyle style) {
+		TextStyle normal = style.asNormal();
+		return normal == TextStyle.FULL ? "long" : normal == TextStyle.SHORT ? "short" : "narrow";
+	}
+
     //-----------------------------------------------------------------------
     /**
      * Helper method to create an immutable entry.
@@ -414,17 +214,41 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      * These textual representations can be captured in this class for printing
      * and parsing.
      * <p>
+     * The texts are either given as a map or as arrays of consecutive values,
+     * loaded per style on first use (GWT specific).
+     * <p>
      * This class is immutable and thread-safe.
      */
     static final class LocaleStore {
         /**
-         * Map of value to text.
+         * Map of value to text, null for the array store.
          */
         private final Map<TextStyle, Map<Long, String>> valueTextMap;
         /**
-         * Parsable data.
+         * The value of the first text in the arrays.
+         */
+        // GWT specific
+        private final long firstValue;
+        /**
+         * Loads the texts of a style, null for the map store.
+         */
+        // GWT specific
+        private final Function<TextStyle, String[]> textLoader;
+        /**
+         * The loaded texts indexed by the style ordinal.
          */
-        private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        // GWT specific
+        private final String[][] textArrays = new String[TEXT_STYLES.length][];
+        /**
+         * Parsable data indexed by the style ordinal, created on first use.
+         */
+        // GWT specific
+        private final List<Entry<String, Long>>[] parsable = createParsableArray();
+        /**
+         * Parsable data of all the styles, created on first use.
+         */
+        // GWT specific
+        private List<Entry<String, Long>> allParsable;
 
         //-----------------------------------------------------------------------
         /**
@@ -434,23 +258,26 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          */
         LocaleStore(Map<TextStyle, Map<Long, String>> valueTextMap) {
             this.valueTextMap = valueTextMap;
-            Map<TextStyle, List<Entry<String, Long>>> map = new HashMap<TextStyle, List<Entry<String,Long>>>();
-            List<Entry<String, Long>> allList = new ArrayList<Map.Entry<String,Long>>();
-            for (TextStyle style : valueTextMap.keySet()) {
-                Map<String, Entry<String, Long>> reverse = new HashMap<String, Map.Entry<String,Long>>();
-                for (Map.Entry<Long, String> entry : valueTextMap.get(style).entrySet()) {
-                    if (reverse.put(entry.getValue(), createEntry(entry.getValue(), entry.getKey())) != null) {
-                        continue;  // not parsable, try next style
-                    }
-                }
-                List<Entry<String, Long>> list = new ArrayList<Map.Entry<String,Long>>(reverse.values());
-                Collections.sort(list, COMPARATOR);
-                map.put(style, list);
-                allList.addAll(list);
-                map.put(null, allList);
-            }
-            Collections.sort(allList, COMPARATOR);
-            this.parsable = map;
+            this.firstValue = 0;
+            this.textLoader = null;
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param firstValue  the value of the first text in the arrays
+         * @param textLoader  loads the texts of a style (null if not supported), the array is not altered, not null
+         */
+        // GWT specific
+        LocaleStore(long firstValue, Function<TextStyle, String[]> textLoader) {
+            this.valueTextMap = null;
+            this.firstValue = firstValue;
+            this.textLoader = textLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<Entry<String, Long>>[] createParsableArray() {
+            return new List[TEXT_STYLES.length];
         }
 
         //-----------------------------------------------------------------------
@@ -463,8 +290,44 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * @return the text for the field value, null if no text found
          */
         String getText(long value, TextStyle style) {
-            Map<Long, String> map = valueTextMap.get(style);
-            return map != null ? map.get(value) : null;
+            if (valueTextMap != null) {
+                Map<Long, String> map = valueTextMap.get(style);
+                return map != null ? map.get(value) : null;
+            }
+            String[] texts = getTextArray(style);
+            long index = value - firstValue;
+            return index >= 0 && index < texts.length ? texts[(int) index] : null;
+        }
+
+        /**
+         * Gets the texts for the style, the text of a value is at the index
+         * {@code value - firstValue}. The array must not be altered.
+         *
+         * @param style  the style to get text for, not null
+         * @return the texts, empty if the style is not supported, null for the map store
+         */
+        // GWT specific
+        String[] getTextArray(TextStyle style) {
+            if (textLoader == null) {
+                return null;
+            }
+            String[] texts = textArrays[style.ordinal()];
+            if (texts == null) {
+                texts = textLoader.apply(style);
+                if (texts == null) {
+                    texts = new String[0];
+                }
+                textArrays[style.ordinal()] = texts;
+            }
+            return texts;
+        }
+
+        /**
+         * @return the value of the first text of {@link #getTextArray(TextStyle)}
+         */
+        // GWT specific
+        long getFirstValue() {
+            return firstValue;
         }
 
         /**
@@ -477,9 +340,62 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          *  null if the style is not parsable
          */
         Iterator<Entry<String, Long>> getTextIterator(TextStyle style) {
-            List<Entry<String, Long>> list = parsable.get(style);
+            List<Entry<String, Long>> list = getParsable(style);
             return list != null ? list.iterator() : null;
         }
+
+        // GWT specific
+        private List<Entry<String, Long>> getParsable(TextStyle style) {
+            if (style == null) {
+                if (allParsable == null) {
+                    List<Entry<String, Long>> allList = new ArrayList<Map.Entry<String,Long>>();
+                    for (TextStyle textStyle : TEXT_STYLES) {
+                        List<Entry<String, Long>> list = getParsable(textStyle);
+                        if (list != null) {
+                            allList.addAll(list);
+                        }
+                    }
+                    Collections.sort(allList, COMPARATOR);
+                    allParsable = allList.isEmpty() ? null : allList;
+                }
+                return allParsable;
+            }
+            List<Entry<String, Long>> list = parsable[style.ordinal()];
+            if (list == null) {
+                Map<Long, String> valueText = getValueText(style);
+                if (valueText == null) {
+                    return null;
+                }
+                Map<String, Entry<String, Long>> reverse = new HashMap<String, Map.Entry<String,Long>>();
+                for (Map.Entry<Long, String> entry : valueText.entrySet()) {
+                    if (reverse.put(entry.getValue(), createEntry(entry.getValue(), entry.getKey())) != null) {
+                        continue;  // not parsable, try next style
+                    }
+                }
+                list = new ArrayList<Map.Entry<String,Long>>(reverse.values());
+                Collections.sort(list, COMPARATOR);
+                parsable[style.ordinal()] = list;
+            }
+            return list;
+        }
+
+        // GWT specific
+        private Map<Long, String> getValueText(TextStyle style) {
+            if (valueTextMap != null) {
+                return valueTextMap.get(style);
+            }
+            String[] texts = getTextArray(style);
+            if (texts.length == 0) {
+                return null;
+            }
+            Map<Long, String> map = new LinkedHashMap<Long, String>();
+            for (int i = 0; i < texts.length; i++) {
+                if (texts[i] != null) {
+                    map.put(firstValue + i, texts[i]);
+                }
+            }
+            return map;
+        }
     }
 
 }
@@ -35,6 +35,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
 import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone.ZoneRulesCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -134,7 +135,27 @@ public abstract class ZoneRulesProvider {
 		Objects.requireNonNull(zoneId, "zoneId");
 		// GWT specific
 		ensureInit();
-		return getProvider(zoneId).provideRules(zoneId, forCaching);
+		return getCachedRules(zoneId, forCaching);
+	}
+
+	/**
+	 * Gets the rules from the cache, the provider is only called if the rules
+	 * are not cached. The rules queried without caching are neither read from
+	 * nor stored in the cache.
+	 */
+	// GWT specific
+	private static ZoneRules getCachedRules(String zoneId, boolean forCaching) {
+		if (!forCaching) {
+			return getProvider(zoneId).provideRules(zoneId, false);
+		}
+		ZoneRules rules = ZoneRulesCache.getRules(zoneId);
+		if (rules == null) {
+			rules = getProvider(zoneId).provideRules(zoneId, true);
+			if (rules != null) {
+				ZoneRulesCache.putRules(zoneId, rules);
+			}
+		}
+		return rules;
 	}
 
 	/**
@@ -206,6 +227,8 @@ public abstract class ZoneRulesProvider {
 		Objects.requireNonNull(provider, "provider");
 		registerProvider0(provider);
 		PROVIDERS.add(provider);
+		// GWT specific - the interned regions are bound to the rules found before
+		ZoneRulesCache.clearRegions();
 	}
 
 	/**
@@ -244,6 +267,7 @@ public abstract class ZoneRulesProvider {
 	public static boolean refresh() {
 		// GWT specific - refresh reinitialize GWT TX data
 		initialized = false;
+		ZoneRulesCache.clear();
 		boolean changed = false;
 		for (ZoneRulesProvider provider : PROVIDERS) {
 			changed |= provider.provideRefresh();
@@ -0,0 +1,173 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+/**
+ * Epoch day and epoch second arithmetic for the compiled script.
+ * <p>
+ * GWT emulates {@code long} with objects, so each operation is a function
+ * call and an allocation. The methods compute with {@code double}, a plain
+ * JavaScript number, while all the values are exactly representable (up to
+ * 2<sup>53</sup>) and use the {@code long} arithmetic otherwise, so the
+ * results and the exceptions are the same as of the {@code Math} methods.
+ * <p>
+ * This class is not found in Java SE.
+ */
+// GWT specific
+public final class EpochMath {
+
+    /** The largest exactly representable integer, 2^53 - 1 */
+    private static final double MAX_SAFE = 9007199254740991d;
+    /** The largest operand of the division, 2^52, the products of the correction stay exact */
+    private static final double MAX_DIVISION = 4503599627370496d;
+    /** The largest epoch day multiplied by the seconds of a day without rounding */
+    private static final double MAX_SAFE_EPOCH_DAY = 100_000_000_000d;
+    /** The number of days from year zero to year 1970 */
+    private static final int DAYS_0000_TO_1970 = (146097 * 5) - (30 * 365 + 7);
+
+    private EpochMath() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * @see Math#addExact(long, long)
+     */
+    public static long addExact(long x, long y) {
+        double dx = x;
+        double dy = y;
+        double result = dx + dy;
+        if (isSafe(dx) && isSafe(dy) && isSafe(result)) {
+            return (long) result;
+        }
+        return Math.addExact(x, y);
+    }
+
+    /**
+     * @see Math#subtractExact(long, long)
+     */
+    public static long subtractExact(long x, long y) {
+        double dx = x;
+        double dy = y;
+        double result = dx - dy;
+        if (isSafe(dx) && isSafe(dy) && isSafe(result)) {
+            return (long) result;
+        }
+        return Math.subtractExact(x, y);
+    }
+
+    /**
+     * @see Math#multiplyExact(long, long)
+     */
+    public static long multiplyExact(long x, long y) {
+        double dx = x;
+        double dy = y;
+        double result = dx * dy;
+        if (isSafe(dx) && isSafe(dy) && isSafe(result)) {
+            return (long) result;
+        }
+        return Math.multiplyExact(x, y);
+    }
+
+    /**
+     * @see Math#floorDiv(long, long)
+     */
+    public static long floorDiv(long x, long y) {
+        double dx = x;
+        double dy = y;
+        if (isDivisionSafe(dx, dy)) {
+            double quotient = Math.floor(dx / dy);
+            return (long) (quotient + correction(dx, dy, quotient));
+        }
+        return Math.floorDiv(x, y);
+    }
+
+    /**
+     * @see Math#floorMod(long, long)
+     */
+    public static long floorMod(long x, long y) {
+        double dx = x;
+        double dy = y;
+        if (isDivisionSafe(dx, dy)) {
+            double quotient = Math.floor(dx / dy);
+            quotient += correction(dx, dy, quotient);
+            return (long) (dx - quotient * dy);
+        }
+        return Math.floorMod(x, y);
+    }
+
+    /**
+     * @return -1, 0 or 1 to fix the quotient rounded by the floating point division
+     */
+    private static int correction(double dx, double dy, double quotient) {
+        double remainder = dx - quotient * dy;
+        if (dy > 0) {
+            return remainder < 0 ? -1 : remainder >= dy ? 1 : 0;
+        }
+        return remainder > 0 ? -1 : remainder <= dy ? 1 : 0;
+    }
+
+    private static boolean isSafe(double value) {
+        return value <= MAX_SAFE && value >= -MAX_SAFE;
+    }
+
+    private static boolean isDivisionSafe(double dx, double dy) {
+        return dy != 0 && dx <= MAX_DIVISION && dx >= -MAX_DIVISION && dy <= MAX_DIVISION && dy >= -MAX_DIVISION;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a valid ISO date to the epoch day, the values of the valid
+     * years are always exact.
+     *
+     * @param year  the valid year
+     * @param month  the month-of-year, from 1 to 12
+     * @param day  the valid day-of-month
+     * @return the epoch day
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        double total = 365d * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (isLeapYear(year) == false) {
+                total--;
+            }
+        }
+        return (long) (total - DAYS_0000_TO_1970);
+    }
+
+    private static boolean isLeapYear(int year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+
+    /**
+     * Converts a valid time to the nano-of-day, always exact.
+     *
+     * @return the nano-of-day, from 0 to 24 * 60 * 60 * 1,000,000,000 - 1
+     */
+    public static long toNanoOfDay(int hour, int minute, int second, int nano) {
+        return (long) (hour * 3600_000_000_000d + minute * 60_000_000_000d + second * 1000_000_000d + nano);
+    }
+
+    /**
+     * Converts the epoch day and the second-of-day at the offset to the epoch second.
+     * Overflows as the {@code long} calculation.
+     *
+     * @param epochDay  the epoch day
+     * @param secondOfDay  the second-of-day
+     * @param offsetSeconds  the total offset seconds
+     * @return the epoch second
+     */
+    public static long toEpochSecond(long epochDay, int secondOfDay, int offsetSeconds) {
+        double day = epochDay;
+        if (day <= MAX_SAFE_EPOCH_DAY && day >= -MAX_SAFE_EPOCH_DAY) {
+            return (long) (day * 86400 + secondOfDay - offsetSeconds);
+        }
+        return epochDay * 86400 + secondOfDay - offsetSeconds;
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.Clock;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+
+/**
+ * A clock with sub-millisecond resolution based on the browser high resolution
+ * time ({@code performance.timeOrigin + performance.now()}).
+ * <p>
+ * The time does not jump with the system clock adjustments made after the
+ * page load, so it suits measuring the latencies with
+ * {@code Duration.between}. To use it for {@code Instant.now()} and the other
+ * {@code now()} methods call {@link Support#setHighResolutionClock(boolean)}
+ * or set the {@code gwt-time.clock} configuration property to
+ * {@code performance}.
+ * <p>
+ * This class is not found in Java SE.
+ */
+public final class PerformanceClock extends Clock implements Serializable {
+
+	private static final long serialVersionUID = -1727327015463411893L;
+
+	private static final PerformanceClock CLOCK_UTC = new PerformanceClock(ZoneOffset.UTC);
+
+	private final ZoneId zone;
+
+	private PerformanceClock(ZoneId zone) {
+		this.zone = zone;
+	}
+
+	/**
+	 * @return the high resolution clock in the UTC zone, not null
+	 */
+	public static PerformanceClock systemUTC() {
+		return CLOCK_UTC;
+	}
+
+	/**
+	 * @param zone - the time-zone to convert the instant to date-time, not null
+	 * @return the high resolution clock in the zone, not null
+	 */
+	public static PerformanceClock system(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		return zone == ZoneOffset.UTC ? CLOCK_UTC : new PerformanceClock(zone);
+	}
+
+	/**
+	 * Converts the fractional milliseconds from the epoch, as returned by
+	 * {@link Support#getEpochMillis()}, to an instant.
+	 *
+	 * @param epochMilli - the milliseconds from 1970-01-01T00:00:00Z
+	 * @return the instant rounded to nanoseconds, not null
+	 */
+	public static Instant ofEpochMilli(double epochMilli) {
+		double seconds = Math.floor(epochMilli / 1000);
+		long nanos = Math.round((epochMilli - seconds * 1000) * 1000_000);
+		return Instant.ofEpochSecond((long) seconds, nanos);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		return zone.equals(this.zone) ? this : new PerformanceClock(zone);
+	}
+
+	@Override
+	public long millis() {
+		return (long) Math.floor(Support.getEpochMillis());
+	}
+
+	@Override
+	public Instant instant() {
+		return ofEpochMilli(Support.getEpochMillis());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof PerformanceClock && zone.equals(((PerformanceClock) obj).zone);
+	}
+
+	@Override
+	public int hashCode() {
+		return zone.hashCode() + 2;
+	}
+
+	@Override
+	public String toString() {
+		return "PerformanceClock[" + zone + "]";
+	}
+
+}
@@ -1,14 +1,23 @@
 package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
 import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesException;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesProvider;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone.ZoneRulesCache;
 import org.jresearch.threetenbp.gwt.time.client.DecimalProperty;
 import org.jresearch.threetenbp.gwt.time.client.SupportJs;
 import org.jresearch.threetenbp.gwt.time.client.loader.TimeJsBundle;
@@ -24,15 +33,32 @@ public class Support {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(Support.class);
 
-	public static final TimeJsBundle bundle = GWT.create(TimeJsBundle.class);
+	/** null outside of the GWT client, on the JVM there is no script to load */
+	public static final TimeJsBundle bundle = GWT.isClient() ? GWT.create(TimeJsBundle.class) : null;
 	private static final Map<String, GwtZoneRuleProvider> gwtZoneRuleProviders = new HashMap<>();
 
 	private static boolean commonInitialized = false;
+	/** "performance" makes {@link PerformanceClock} the system clock */
+	private static boolean highResolutionClock = "performance".equals(System.getProperty("gwt-time.clock", "system"));
+	/**
+	 * The available locales supported by the browser, the browser data doesn't
+	 * change while the page is loaded, so they are computed once
+	 */
+	private static Set<Locale> dateTimeFormatLocales;
+	private static Set<Locale> numberFormatLocales;
+	/** The zone set by {@link #setDefaultZone(ZoneId)}, null to use the browser zone */
+	private static ZoneId defaultZoneOverride;
+	/** The resolved browser zone, null until the first use or after {@link #refreshDefaultZone()} */
+	private static ZoneId browserZone;
+	/** The browser offset in minutes when the browser zone was resolved, the change probe */
+	private static int browserZoneOffset;
 
 	public static void init() {
 		if (!commonInitialized) {
 			LOGGER.debug("common initialization");
-			ScriptInjector.fromString(bundle.support().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
+			if (GWT.isClient()) {
+				ScriptInjector.fromString(bundle.support().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
+			}
 			commonInitialized = true;
 		}
 	}
@@ -44,7 +70,36 @@ public class Support {
 		}
 		if (!isTzTnitialized()) {
 			gwtZoneRuleProviders.values().forEach(GwtZoneRuleProvider::initialize);
+			// the default zone may have been resolved without the data
+			refreshDefaultZone();
+		}
+	}
+
+	/**
+	 * Initializes the registered zone rule providers without blocking the
+	 * caller, the TZDB data is decoded in slices between browser events. Zone
+	 * lookups made before {@code onReady} is called still initialize the data
+	 * synchronously.
+	 *
+	 * @param onReady - called once all the providers are initialized
+	 */
+	public static void initTzDataAsync(Runnable onReady) {
+		LOGGER.debug("initTzDataAsync called");
+		if (!commonInitialized) {
+			init();
+		}
+		List<GwtZoneRuleProvider> pending = gwtZoneRuleProviders.values().stream().filter(p -> !p.isInitialized()).collect(Collectors.toList());
+		if (pending.isEmpty()) {
+			onReady.run();
+			return;
 		}
+		int[] remaining = { pending.size() };
+		pending.forEach(p -> p.initializeAsync(() -> {
+			if (--remaining[0] == 0) {
+				refreshDefaultZone();
+				onReady.run();
+			}
+		}));
 	}
 
 	public static void registerGwtZoneRuleProvider(GwtZoneRuleProvider gwtZoneRuleProvider) {
@@ -52,6 +107,7 @@ public class Support {
 			LOGGER.debug("Register GWT zone rule provider: {}", gwtZoneRuleProvider.getProviderId());
 			gwtZoneRuleProviders.put(gwtZoneRuleProvider.getProviderId(), gwtZoneRuleProvider);
 			ZoneRulesProvider.refresh();
+			refreshDefaultZone();
 		}
 	}
 
@@ -63,6 +119,31 @@ public class Support {
 		return SupportJs.getTimestamp();
 	}
 
+	/**
+	 * @return the milliseconds from the epoch with the sub-millisecond fraction,
+	 *         {@code performance.timeOrigin + performance.now()} if supported
+	 */
+	public static double getEpochMillis() {
+		return SupportJs.getEpochMillis();
+	}
+
+	/**
+	 * @return true if the system clock ({@code Instant.now()}, ...) is the
+	 *         {@link PerformanceClock}
+	 */
+	public static boolean isHighResolutionClock() {
+		return highResolutionClock;
+	}
+
+	/**
+	 * Switches the system clock ({@code Instant.now()}, ...) between
+	 * {@code System.currentTimeMillis()} and the {@link PerformanceClock}, the
+	 * default is set by the {@code gwt-time.clock} configuration property
+	 */
+	public static void setHighResolutionClock(boolean enabled) {
+		highResolutionClock = enabled;
+	}
+
 	public static int getMinutesOffset() {
 		return SupportJs.getMinutesOffset();
 	}
@@ -72,6 +153,64 @@ public class Support {
 		return SupportJs.getTimezone();
 	}
 
+	/**
+	 * Gets the default zone of {@code ZoneId.systemDefault()}, the zone set by
+	 * {@link #setDefaultZone(ZoneId)} or the browser zone. The browser zone is
+	 * resolved once and again only after {@link #refreshDefaultZone()} or when
+	 * the browser offset ({@code Date.getTimezoneOffset()}) changes, the changes
+	 * of the browser zone keeping the current offset are not detected.
+	 *
+	 * @return the default zone, not null
+	 */
+	@Nonnull
+	public static ZoneId getDefaultZone() {
+		if (defaultZoneOverride != null) {
+			return defaultZoneOverride;
+		}
+		int minutesOffset = SupportJs.getMinutesOffset();
+		if (browserZone == null || minutesOffset != browserZoneOffset) {
+			browserZoneOffset = minutesOffset;
+			browserZone = resolveBrowserZone(minutesOffset);
+		}
+		return browserZone;
+	}
+
+	private static ZoneId resolveBrowserZone(int minutesOffset) {
+		String timezone = SupportJs.getTimezone();
+		ZoneRulesCache.setDefaultZoneId(timezone);
+		try {
+			return ZoneId.of(timezone);
+		} catch (ZoneRulesException e) {
+			LOGGER.warn("Can't resolve system default zone {}: {}. Fallback to zone offset", timezone, e.getMessage());
+		}
+		return ZoneOffset.ofTotalSeconds(minutesOffset * 60);
+	}
+
+	/**
+	 * Sets the zone returned by {@code ZoneId.systemDefault()} (and used by
+	 * {@code Clock.systemDefaultZone()}, {@code LocalDate.now()}, ...) instead of
+	 * the browser zone
+	 *
+	 * @param zone - the default zone, null to use the browser zone again
+	 */
+	public static void setDefaultZone(ZoneId zone) {
+		defaultZoneOverride = zone;
+		browserZone = null;
+		if (zone != null) {
+			ZoneRulesCache.setDefaultZoneId(zone.getId());
+		}
+	}
+
+	/**
+	 * Resolves the browser zone again on the next use, for example after the
+	 * user changed the time zone of the system. Called when the time-zone data
+	 * is initialized, call it after registering a {@code ZoneRulesProvider}
+	 * directly if the default zone was already used.
+	 */
+	public static void refreshDefaultZone() {
+		browserZone = null;
+	}
+
 	public static void sleep(int milliseconds) {
 		SupportJs.sleep(milliseconds);
 	}
@@ -140,6 +279,50 @@ public class Support {
 		return Stream.of(supportedLocales).map(Support::jsRootToJava).map(Locale::forLanguageTag).toArray(Locale[]::new);
 	}
 
+	/**
+	 * @return the locales of {@link Locale#getAvailableLocales()} supported by
+	 *         {@code Intl.DateTimeFormat}, cached, unmodifiable
+	 */
+	@Nonnull
+	public static Set<Locale> availableLocalesOfDateTimeFormat() {
+		if (dateTimeFormatLocales == null) {
+			dateTimeFormatLocales = toSet(supportedLocalesOfDateTimeFormat(Locale.getAvailableLocales()));
+		}
+		return dateTimeFormatLocales;
+	}
+
+	/**
+	 * @return the locales of {@link Locale#getAvailableLocales()} supported by
+	 *         {@code Intl.NumberFormat}, cached, unmodifiable
+	 */
+	@Nonnull
+	public static Set<Locale> availableLocalesOfNumberFormat() {
+		if (numberFormatLocales == null) {
+			numberFormatLocales = toSet(supportedLocalesOfNumberFormat(Locale.getAvailableLocales()));
+		}
+		return numberFormatLocales;
+	}
+
+	/**
+	 * @return true if the locale is one of {@link #availableLocalesOfDateTimeFormat()}
+	 */
+	public static boolean isDateTimeFormatSupported(Locale locale) {
+		return availableLocalesOfDateTimeFormat().contains(locale);
+	}
+
+	/**
+	 * @return true if the locale is one of {@link #availableLocalesOfNumberFormat()}
+	 */
+	public static boolean isNumberFormatSupported(Locale locale) {
+		return availableLocalesOfNumberFormat().contains(locale);
+	}
+
+	private static Set<Locale> toSet(Locale[] locales) {
+		Set<Locale> result = new LinkedHashSet<>(locales.length * 2);
+		Collections.addAll(result, locales);
+		return Collections.unmodifiableSet(result);
+	}
+
 	public static String jsRootToJava(String tag) {
 		return "root".equalsIgnoreCase(tag) ? "" : tag;
 	}
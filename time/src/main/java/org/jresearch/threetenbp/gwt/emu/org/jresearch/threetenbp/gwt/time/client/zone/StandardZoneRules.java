@@ -37,8 +37,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
 import org.jresearch.threetenbp.gwt.emu.java.time.Duration;
@@ -50,6 +48,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneOffsetTransition;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneOffsetTransitionRule;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.EpochMath;
 
 /**
  * The rules describing how the zone offset varies through the year and
@@ -68,10 +67,20 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 * Serialization version.
 	 */
 	private static final long serialVersionUID = 3044319355680032515L;
+	/**
+	 * The first year to have its transitions cached.
+	 */
+	// GWT Specific
+	private static final int FIRST_CACHED_YEAR = 1970;
 	/**
 	 * The last year to have its transitions cached.
 	 */
 	private static final int LAST_CACHED_YEAR = 2100;
+	/**
+	 * The number of years cached together.
+	 */
+	// GWT Specific
+	private static final int CACHED_BLOCK_YEARS = 10;
 
 	/**
 	 * The transitions between standard offsets (epoch seconds), sorted.
@@ -86,11 +95,12 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 */
 	private final long[] savingsInstantTransitions;
 	/**
-	 * The transitions between local date-times, sorted. This is a paired array,
-	 * where the first entry is the start of the transition and the second entry is
-	 * the end of the transition.
+	 * The transitions between local date-times (local epoch seconds), sorted. This
+	 * is a paired array, where the first entry is the start of the transition and
+	 * the second entry is the end of the transition.
 	 */
-	private final LocalDateTime[] savingsLocalTransitions;
+	// GWT Specific: primitive local seconds instead of LocalDateTime objects
+	private final long[] savingsLocalTransitions;
 	/**
 	 * The wall offsets.
 	 */
@@ -100,9 +110,12 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 */
 	private final ZoneOffsetTransitionRule[] lastRules;
 	/**
-	 * The map of recent transitions.
+	 * The recent transitions (epoch seconds) of the last rules, filled on demand
+	 * per block of years. A block holds the transitions year by year in the order
+	 * of the last rules.
 	 */
-	private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache = new ConcurrentHashMap<>();
+	// GWT Specific: dense primitive table instead of the map of transition arrays
+	private final long[][] lastRulesCache = new long[(LAST_CACHED_YEAR - FIRST_CACHED_YEAR + CACHED_BLOCK_YEARS - 1) / CACHED_BLOCK_YEARS][];
 
 	/**
 	 * Creates an instance.
@@ -140,29 +153,18 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			this.standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffsetAfter();
 		}
 
-		// convert savings transitions to locals
-		List<LocalDateTime> localTransitionList = new ArrayList<>();
-		List<ZoneOffset> localTransitionOffsetList = new ArrayList<>();
-		localTransitionOffsetList.add(baseWallOffset);
-		for (ZoneOffsetTransition trans : transitionList) {
-			if (trans.isGap()) {
-				localTransitionList.add(trans.getDateTimeBefore());
-				localTransitionList.add(trans.getDateTimeAfter());
-			} else {
-				localTransitionList.add(trans.getDateTimeAfter());
-				localTransitionList.add(trans.getDateTimeBefore());
-			}
-			localTransitionOffsetList.add(trans.getOffsetAfter());
-		}
-		this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
-		this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
-
 		// convert savings transitions to instants
 		this.savingsInstantTransitions = new long[transitionList.size()];
+		this.wallOffsets = new ZoneOffset[transitionList.size() + 1];
+		this.wallOffsets[0] = baseWallOffset;
 		for (int i = 0; i < transitionList.size(); i++) {
-			this.savingsInstantTransitions[i] = transitionList.get(i).getInstant().getEpochSecond();
+			this.savingsInstantTransitions[i] = transitionList.get(i).toEpochSecond();
+			this.wallOffsets[i + 1] = transitionList.get(i).getOffsetAfter();
 		}
 
+		// convert savings transitions to locals
+		this.savingsLocalTransitions = toLocalTransitions(savingsInstantTransitions, wallOffsets);
+
 		// last rules
 		if (lastRules.size() > 15) {
 			throw new IllegalArgumentException("Too many transition rules");
@@ -201,20 +203,38 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		this.lastRules = lastRules;
 
 		// convert savings transitions to locals
-		List<LocalDateTime> localTransitionList = new ArrayList<>();
+		this.savingsLocalTransitions = toLocalTransitions(savingsInstantTransitions, wallOffsets);
+	}
+
+	/**
+	 * Converts the savings transitions to the paired local transitions without
+	 * creating the transition objects.
+	 *
+	 * @param savingsInstantTransitions
+	 *                                      the savings transitions, not null
+	 * @param wallOffsets
+	 *                                      the wall offsets, not null
+	 * @return the local transitions (local epoch seconds), not null
+	 */
+	// GWT Specific
+	private static long[] toLocalTransitions(long[] savingsInstantTransitions, ZoneOffset[] wallOffsets) {
+		long[] localTransitions = new long[savingsInstantTransitions.length * 2];
 		for (int i = 0; i < savingsInstantTransitions.length; i++) {
-			ZoneOffset before = wallOffsets[i];
-			ZoneOffset after = wallOffsets[i + 1];
-			ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
-			if (trans.isGap()) {
-				localTransitionList.add(trans.getDateTimeBefore());
-				localTransitionList.add(trans.getDateTimeAfter());
+			int before = wallOffsets[i].getTotalSeconds();
+			int after = wallOffsets[i + 1].getTotalSeconds();
+			long localBefore = savingsInstantTransitions[i] + before;
+			long localAfter = savingsInstantTransitions[i] + after;
+			if (after > before) {
+				// gap
+				localTransitions[2 * i] = localBefore;
+				localTransitions[2 * i + 1] = localAfter;
 			} else {
-				localTransitionList.add(trans.getDateTimeAfter());
-				localTransitionList.add(trans.getDateTimeBefore());
+				// overlap
+				localTransitions[2 * i] = localAfter;
+				localTransitions[2 * i + 1] = localBefore;
 			}
 		}
-		this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+		return localTransitions;
 	}
 
 	// -----------------------------------------------------------------------
@@ -309,15 +329,12 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		if (lastRules.length > 0 && (savingsInstantTransitions.length == 0 ||
 				epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1])) {
 			int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
-			ZoneOffsetTransition trans = null;
-			for (int i = 0; i < transArray.length; i++) {
-				trans = transArray[i];
-				if (epochSec < trans.toEpochSecond()) {
-					return trans.getOffsetBefore();
+			for (int i = 0; i < lastRules.length; i++) {
+				if (epochSec < findTransitionEpochSecond(year, i)) {
+					return lastRules[i].getOffsetBefore();
 				}
 			}
-			return trans.getOffsetAfter();
+			return lastRules[lastRules.length - 1].getOffsetAfter();
 		}
 
 		// using historic rules
@@ -356,14 +373,15 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	}
 
 	private Object getOffsetInfo(LocalDateTime dt) {
+		long localSecond = dt.toEpochSecond(ZoneOffset.UTC);
 		// check if using last rules
 		if (lastRules.length > 0 && (savingsLocalTransitions.length == 0 ||
-				dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1]))) {
-			ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
+				isAfter(localSecond, dt.getNano(), savingsLocalTransitions[savingsLocalTransitions.length - 1]))) {
+			int year = dt.getYear();
 			Object info = null;
-			for (ZoneOffsetTransition trans : transArray) {
-				info = findOffsetInfo(dt, trans);
-				if (info instanceof ZoneOffsetTransition || info.equals(trans.getOffsetBefore())) {
+			for (int i = 0; i < lastRules.length; i++) {
+				info = findOffsetInfo(localSecond, year, i);
+				if (info instanceof ZoneOffsetTransition || info.equals(lastRules[i].getOffsetBefore())) {
 					return info;
 				}
 			}
@@ -371,7 +389,15 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		}
 
 		// using historic rules
-		int index = Arrays.binarySearch(savingsLocalTransitions, dt);
+		// the transitions are whole seconds, so the nanos only matter for an exact match
+		int index = Arrays.binarySearch(savingsLocalTransitions, localSecond);
+		if (index >= 0 && dt.getNano() > 0) {
+			// just after the matched transition, skip the equal ones
+			while (index < savingsLocalTransitions.length - 1 && savingsLocalTransitions[index + 1] == localSecond) {
+				index++;
+			}
+			index = -index - 2;
+		}
 		if (index == -1) {
 			// before first transition
 			return wallOffsets[0];
@@ -380,57 +406,63 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			// switch negative insert position to start of matched range
 			index = -index - 2;
 		} else if (index < savingsLocalTransitions.length - 1 &&
-				savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
+				savingsLocalTransitions[index] == savingsLocalTransitions[index + 1]) {
 			// handle overlap immediately following gap
 			index++;
 		}
 		if ((index & 1) == 0) {
-			// gap or overlap
-			LocalDateTime dtBefore = savingsLocalTransitions[index];
-			LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-			ZoneOffset offsetBefore = wallOffsets[index / 2];
-			ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-			if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-				// gap
-				return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-			} else {
-				// overlap
-				return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-			}
+			// gap or overlap, both start at the same instant
+			return new ZoneOffsetTransition(savingsInstantTransitions[index / 2], wallOffsets[index / 2], wallOffsets[index / 2 + 1]);
 		} else {
 			// normal (neither gap or overlap)
 			return wallOffsets[index / 2 + 1];
 		}
 	}
 
+	// GWT Specific
+	private static boolean isAfter(long localSecond, int nano, long localTransition) {
+		return localSecond > localTransition || (localSecond == localTransition && nano > 0);
+	}
+
 	/**
-	 * Finds the offset info for a local date-time and transition.
+	 * Finds the offset info for a local date-time and the transition of a last
+	 * rule.
 	 *
-	 * @param dt
-	 *                  the date-time, not null
-	 * @param trans
-	 *                  the transition, not null
+	 * @param localSecond
+	 *                        the date-time as local epoch seconds, the nanos
+	 *                        do not matter as the transitions are whole seconds
+	 * @param year
+	 *                        the year of the date-time
+	 * @param ruleIndex
+	 *                        the index of the last rule
 	 * @return the offset info, not null
 	 */
-	private Object findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
-		LocalDateTime localTransition = trans.getDateTimeBefore();
-		if (trans.isGap()) {
-			if (dt.isBefore(localTransition)) {
-				return trans.getOffsetBefore();
+	// GWT Specific
+	private Object findOffsetInfo(long localSecond, int year, int ruleIndex) {
+		long epochSecond = findTransitionEpochSecond(year, ruleIndex);
+		ZoneOffset offsetBefore = lastRules[ruleIndex].getOffsetBefore();
+		ZoneOffset offsetAfter = lastRules[ruleIndex].getOffsetAfter();
+		long localTransitionBefore = epochSecond + offsetBefore.getTotalSeconds();
+		long localTransitionAfter = epochSecond + offsetAfter.getTotalSeconds();
+		if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
+			// gap
+			if (localSecond < localTransitionBefore) {
+				return offsetBefore;
 			}
-			if (dt.isBefore(trans.getDateTimeAfter())) {
-				return trans;
+			if (localSecond < localTransitionAfter) {
+				return new ZoneOffsetTransition(epochSecond, offsetBefore, offsetAfter);
 			} else {
-				return trans.getOffsetAfter();
+				return offsetAfter;
 			}
 		} else {
-			if (dt.isBefore(localTransition) == false) {
-				return trans.getOffsetAfter();
+			// overlap
+			if (localSecond >= localTransitionBefore) {
+				return offsetAfter;
 			}
-			if (dt.isBefore(trans.getDateTimeAfter())) {
-				return trans.getOffsetBefore();
+			if (localSecond < localTransitionAfter) {
+				return offsetBefore;
 			} else {
-				return trans;
+				return new ZoneOffsetTransition(epochSecond, offsetBefore, offsetAfter);
 			}
 		}
 	}
@@ -442,27 +474,47 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 
 	// -----------------------------------------------------------------------
 	/**
-	 * Finds the appropriate transition array for the given year.
+	 * Finds the transition of a last rule in the given year.
 	 *
 	 * @param year
-	 *                 the year, not null
-	 * @return the transition array, not null
+	 *                      the year
+	 * @param ruleIndex
+	 *                      the index of the last rule
+	 * @return the transition epoch second
 	 */
-	private ZoneOffsetTransition[] findTransitionArray(int year) {
-		Integer yearObj = year; // should use Year class, but this saves a class load
-		ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-		if (transArray != null) {
-			return transArray;
-		}
-		ZoneOffsetTransitionRule[] ruleArray = lastRules;
-		transArray = new ZoneOffsetTransition[ruleArray.length];
-		for (int i = 0; i < ruleArray.length; i++) {
-			transArray[i] = ruleArray[i].createTransition(year);
+	// GWT Specific
+	private long findTransitionEpochSecond(int year, int ruleIndex) {
+		if (year < FIRST_CACHED_YEAR || year >= LAST_CACHED_YEAR) {
+			return lastRules[ruleIndex].createTransition(year).toEpochSecond();
 		}
-		if (year < LAST_CACHED_YEAR) {
-			lastRulesCache.putIfAbsent(yearObj, transArray);
+		int yearIndex = year - FIRST_CACHED_YEAR;
+		int blockIndex = yearIndex / CACHED_BLOCK_YEARS;
+		long[] block = lastRulesCache[blockIndex];
+		if (block == null) {
+			int firstYear = FIRST_CACHED_YEAR + blockIndex * CACHED_BLOCK_YEARS;
+			block = new long[CACHED_BLOCK_YEARS * lastRules.length];
+			for (int y = 0; y < CACHED_BLOCK_YEARS; y++) {
+				for (int i = 0; i < lastRules.length; i++) {
+					block[y * lastRules.length + i] = lastRules[i].createTransition(firstYear + y).toEpochSecond();
+				}
+			}
+			lastRulesCache[blockIndex] = block;
 		}
-		return transArray;
+		return block[(yearIndex % CACHED_BLOCK_YEARS) * lastRules.length + ruleIndex];
+	}
+
+	/**
+	 * Creates the transition of a last rule.
+	 *
+	 * @param epochSecond
+	 *                        the transition epoch second
+	 * @param ruleIndex
+	 *                        the index of the last rule
+	 * @return the transition, not null
+	 */
+	// GWT Specific
+	private ZoneOffsetTransition createTransition(long epochSecond, int ruleIndex) {
+		return new ZoneOffsetTransition(epochSecond, lastRules[ruleIndex].getOffsetBefore(), lastRules[ruleIndex].getOffsetAfter());
 	}
 
 	// -----------------------------------------------------------------------
@@ -505,16 +557,15 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			}
 			// search year the instant is in
 			int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
-			for (ZoneOffsetTransition trans : transArray) {
-				if (epochSec < trans.toEpochSecond()) {
-					return trans;
+			for (int i = 0; i < lastRules.length; i++) {
+				long trans = findTransitionEpochSecond(year, i);
+				if (epochSec < trans) {
+					return createTransition(trans, i);
 				}
 			}
 			// use first from following year
 			if (year < Year.MAX_VALUE) {
-				transArray = findTransitionArray(year + 1);
-				return transArray[0];
+				return createTransition(findTransitionEpochSecond(year + 1, 0), 0);
 			}
 			return null;
 		}
@@ -546,17 +597,17 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			// search year the instant is in
 			ZoneOffset lastHistoricOffset = wallOffsets[wallOffsets.length - 1];
 			int year = findYear(epochSec, lastHistoricOffset);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
-			for (int i = transArray.length - 1; i >= 0; i--) {
-				if (epochSec > transArray[i].toEpochSecond()) {
-					return transArray[i];
+			for (int i = lastRules.length - 1; i >= 0; i--) {
+				long trans = findTransitionEpochSecond(year, i);
+				if (epochSec > trans) {
+					return createTransition(trans, i);
 				}
 			}
 			// use last from preceeding year
 			int lastHistoricYear = findYear(lastHistoric, lastHistoricOffset);
 			if (--year > lastHistoricYear) {
-				transArray = findTransitionArray(year);
-				return transArray[transArray.length - 1];
+				int last = lastRules.length - 1;
+				return createTransition(findTransitionEpochSecond(year, last), last);
 			}
 			// drop through
 		}
@@ -575,7 +626,7 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	private int findYear(long epochSecond, ZoneOffset offset) {
 		// inline for performance
 		long localSecond = epochSecond + offset.getTotalSeconds();
-		long localEpochDay = Math.floorDiv(localSecond, 86400);
+		long localEpochDay = EpochMath.floorDiv(localSecond, 86400);
 		return LocalDate.ofEpochDay(localEpochDay).getYear();
 	}
 
@@ -0,0 +1,128 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+
+/**
+ * The recently used zone rules of {@code ZoneRulesProvider} and the zone
+ * regions of {@code ZoneId} interned with the rules bound. The rules of the
+ * system default zone are kept apart and never evicted, {@code Support} sets
+ * the default zone ID when the default zone is resolved or set, so the rules
+ * lookups don't query the browser.
+ * <p>
+ * This class is not found in Java SE.
+ */
+// GWT specific
+public final class ZoneRulesCache {
+
+	/**
+	 * The maximum number of cached rules and regions
+	 * ("gwt-time.zone.rulesCacheSize" configuration property), zero or less to
+	 * keep all of them.
+	 */
+	private static final int CACHE_SIZE = Integer.parseInt(System.getProperty("gwt-time.zone.rulesCacheSize", "64"));
+	/**
+	 * The recently used rules by zone ID, the least recently used are evicted.
+	 */
+	private static final Map<String, ZoneRules> RULES = new LinkedHashMap<String, ZoneRules>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ZoneRules> eldest) {
+			return CACHE_SIZE > 0 && size() > CACHE_SIZE;
+		}
+	};
+	/**
+	 * The recently used regions with available rules by zone ID, the least
+	 * recently used are evicted.
+	 */
+	private static final Map<String, ZoneId> REGIONS = new LinkedHashMap<String, ZoneId>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ZoneId> eldest) {
+			return CACHE_SIZE > 0 && size() > CACHE_SIZE;
+		}
+	};
+	private static String defaultZoneId;
+	private static ZoneRules defaultZoneRules;
+
+	private ZoneRulesCache() {
+	}
+
+	/**
+	 * @param zoneId the zone ID, not null
+	 * @return the cached rules, null if none
+	 */
+	public static ZoneRules getRules(String zoneId) {
+		return zoneId.equals(defaultZoneId) ? defaultZoneRules : RULES.get(zoneId);
+	}
+
+	/**
+	 * @param zoneId the zone ID, not null
+	 * @param rules  the rules to cache, not null
+	 */
+	public static void putRules(String zoneId, ZoneRules rules) {
+		if (zoneId.equals(defaultZoneId)) {
+			defaultZoneRules = rules;
+		} else {
+			RULES.put(zoneId, rules);
+		}
+	}
+
+	/**
+	 * Sets the ID of the system default zone, the rules of the zone are never
+	 * evicted.
+	 *
+	 * @param zoneId the ID of the system default zone, null if none
+	 */
+	public static void setDefaultZoneId(String zoneId) {
+		if (Objects.equals(zoneId, defaultZoneId)) {
+			return;
+		}
+		// the previous default zone becomes a recently used zone
+		if (defaultZoneRules != null) {
+			RULES.put(defaultZoneId, defaultZoneRules);
+		}
+		defaultZoneId = zoneId;
+		defaultZoneRules = zoneId == null ? null : RULES.remove(zoneId);
+	}
+
+	/**
+	 * @param zoneId the zone ID, not null
+	 * @return the interned region, null if none
+	 */
+	public static ZoneId getRegion(String zoneId) {
+		return REGIONS.get(zoneId);
+	}
+
+	/**
+	 * @param zoneId the zone ID, not null
+	 * @param region the region with the rules bound, not null
+	 */
+	public static void putRegion(String zoneId, ZoneId region) {
+		REGIONS.put(zoneId, region);
+	}
+
+	/**
+	 * Drops the interned regions, they are bound to the rules found before.
+	 */
+	public static void clearRegions() {
+		REGIONS.clear();
+	}
+
+	/**
+	 * Drops the cached rules and the interned regions, the default zone ID is
+	 * kept.
+	 */
+	public static void clear() {
+		RULES.clear();
+		defaultZoneRules = null;
+		REGIONS.clear();
+	}
+
+}
@@ -15,6 +15,9 @@ public class SupportJs {
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native float getTimestamp();
 
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native double getEpochMillis();
+
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native String getTimezone();
@@ -8,4 +8,15 @@ public interface GwtZoneRuleProvider {
 
 	void initialize();
 
+	/**
+	 * Initializes the provider without blocking the caller. The default
+	 * implementation initializes synchronously.
+	 *
+	 * @param onReady - called once the provider is initialized
+	 */
+	default void initializeAsync(Runnable onReady) {
+		initialize();
+		onReady.run();
+	}
+
 }
@@ -1,7 +1,9 @@
 if (window.performance.now) {
     getTimestamp = function() { return window.performance.timing.navigationStart + window.performance.now(); };
+    getEpochMillis = function() { return (window.performance.timeOrigin || window.performance.timing.navigationStart) + window.performance.now(); };
 } else {
     getTimestamp = function() { return new Date().getTime(); };
+    getEpochMillis = getTimestamp;
 }
 
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().resolvedOptions == 'function') {
@@ -33,11 +35,18 @@ if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof
 }
 
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().formatToParts == 'function') {
+	timeZoneFormatCache = {};
+	timeZoneWinterDate = new Date(Date.UTC(2012, 12, 20, 6, 0, 0));
+	timeZoneSummerDate = new Date(Date.UTC(2012, 6, 20, 6, 0, 0));
 	displayTimeZone = function(daylight, timeZone, style, locale) {
 		try {
-			const region = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
-			const month = daylight ? 6 : 12;
-			const date = new Date(Date.UTC(2012, month, 20, 6, 0, 0));
+			const key = locale + '|' + style + '|' + timeZone;
+			var region = timeZoneFormatCache[key];
+			if (region === undefined) {
+				region = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
+				timeZoneFormatCache[key] = region;
+			}
+			const date = daylight ? timeZoneSummerDate : timeZoneWinterDate;
 			return region.formatToParts(date).find(checkTimeZone).value;
 		} catch (e) {
 			console.error("Error while call displayTimeZone with daylight %s, timeZone %s, style %s, locale %s: %s", daylight, timeZone, style, locale, e);
@@ -50,11 +59,34 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	};
 }
 
+if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().formatToParts == 'function') {
+	textFormatCache = {};
+	// the formatter of the month, weekday, era or dayPeriod texts, created once per locale and width,
+	// the format (not standalone) month and weekday are taken in the context of the day
+	textFormat = function(part, style, standalone, locale) {
+		const key = locale + '|' + style + '|' + part + (standalone ? '|standalone' : '');
+		var region = textFormatCache[key];
+		if (region === undefined) {
+			var options = {};
+			options[part] = style;
+			if (part === 'dayPeriod') {
+				options.hour = 'numeric';
+				options.hour12 = true;
+			} else if (!standalone && (part === 'month' || part === 'weekday')) {
+				options.day = 'numeric';
+			}
+			region = new Intl.DateTimeFormat(locale, options);
+			textFormatCache[key] = region;
+		}
+		return region;
+	};
+}
+
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().formatToParts == 'function') {
 	displayMonths = function(style, standalone, locale) {
 		try {
 			var result = [];
-			const region = standalone ? new Intl.DateTimeFormat(locale, { month: style }) : new Intl.DateTimeFormat(locale, { month: style, day: 'numeric' });
+			const region = textFormat('month', style, standalone, locale);
 			for (i = 0; i < 12; i++) {
 				const date = new Date(Date.UTC(2020, i, 4, 6, 0, 0));
 				result.push(region.formatToParts(date).find(checkMonth).value);
@@ -82,7 +114,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayWeekdays = function(style, standalone, locale) {
 		try {
 			var result = [];
-			const region = standalone ? new Intl.DateTimeFormat(locale, { weekday: style }) : new Intl.DateTimeFormat(locale, { weekday: style, day: 'numeric' });
+			const region = textFormat('weekday', style, standalone, locale);
 			for (i = 1; i <= 7; i++) {
 				const date = new Date(Date.UTC(2020, 5, i, 6, 0, 0));
 				result.push(region.formatToParts(date).find(checkWeekday).value);
@@ -110,7 +142,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayEras = function(style, locale) {
 		try {
 			var result = [];
-			const region = new Intl.DateTimeFormat(locale, { era: style });
+			const region = textFormat('era', style, false, locale);
 			var date = new Date(-99999999999999);
 			result.push(region.formatToParts(date).find(checkEra).value);
 			date = new Date(99999999999999);
@@ -138,7 +170,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayAmpm = function(style, locale) {
 		try {
 			var result = [];
-			const region = new Intl.DateTimeFormat(locale, { dayPeriod: style, hour: 'numeric', hour12: 'false' });
+			const region = textFormat('dayPeriod', style, false, locale);
 			var date = new Date(Date.UTC(2020, 5, 4, 6, 0, 0));
 			result.push(region.formatToParts(date).find(checkAmpm).value);
 			date = new Date(Date.UTC(2020, 5, 4, 16, 0, 0));
@@ -1,7 +1,10 @@
 package org.jresearch.threetenbp.gwt.emu.java.time;
 
 import java.util.Locale;
+import java.util.Set;
 
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DecimalStyle;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.PerformanceClock;
 import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
 import org.junit.Test;
 
@@ -15,12 +18,61 @@ public class GwtSupportTest extends AbstractTest {
 		assertTrue(timestamp > 0);
 	}
 
+	@Test
+	public void testGetEpochMillis() {
+		final double epochMillis = Support.getEpochMillis();
+		assertTrue(Math.abs(epochMillis - System.currentTimeMillis()) < 60_000);
+	}
+
+	@Test
+	public void testPerformanceClock() {
+		final Instant start = PerformanceClock.systemUTC().instant();
+		final Instant end = PerformanceClock.systemUTC().instant();
+		assertFalse(end.isBefore(start));
+		assertEquals(Instant.ofEpochSecond(1, 500_000), PerformanceClock.ofEpochMilli(1000.5));
+		assertEquals(Instant.ofEpochSecond(-1, 999_000_000), PerformanceClock.ofEpochMilli(-1));
+	}
+
+	@Test
+	public void testHighResolutionClock() {
+		try {
+			Support.setHighResolutionClock(true);
+			assertTrue(Math.abs(Instant.now().toEpochMilli() - System.currentTimeMillis()) < 60_000);
+		} finally {
+			Support.setHighResolutionClock(false);
+		}
+	}
+
 	@Test
 	public void testGetTimezove() {
 		final String timezone = Support.getTimezone();
 		assertNotNull(timezone);
 	}
 
+	@Test
+	public void testDefaultZone() {
+		final ZoneId zone = ZoneId.systemDefault();
+		assertNotNull(zone);
+		assertSame(zone, ZoneId.systemDefault());
+		Support.refreshDefaultZone();
+		assertEquals(zone, ZoneId.systemDefault());
+	}
+
+	@Test
+	public void testSetDefaultZone() {
+		final ZoneId zone = ZoneId.of("Asia/Tokyo");
+		try {
+			Support.setDefaultZone(zone);
+			assertSame(zone, ZoneId.systemDefault());
+			assertEquals(zone, Clock.systemDefaultZone().getZone());
+			assertEquals(zone, ZonedDateTime.now().getZone());
+			assertSame(zone.getRules(), ZoneId.of("Asia/Tokyo").getRules());
+		} finally {
+			Support.setDefaultZone(null);
+		}
+		assertNotNull(ZoneId.systemDefault());
+	}
+
 	@Test
 	public void testDisplayTimeZone() {
 		boolean daylight = false;
@@ -47,4 +99,15 @@ public class GwtSupportTest extends AbstractTest {
 		assertNotNull(result);
 		assertEquals(2, result.length);
 	}
+
+	@Test
+	public void testAvailableLocales() {
+		Set<Locale> dateTime = Support.availableLocalesOfDateTimeFormat();
+		assertSame(dateTime, Support.availableLocalesOfDateTimeFormat());
+		dateTime.forEach(l -> assertTrue(Support.isDateTimeFormatSupported(l)));
+		Support.availableLocalesOfNumberFormat().forEach(l -> assertTrue(Support.isNumberFormatSupported(l)));
+		assertFalse(Support.isDateTimeFormatSupported(new Locale("xx", "YY")));
+		assertFalse(Support.isNumberFormatSupported(new Locale("xx", "YY")));
+		assertEquals(Support.availableLocalesOfNumberFormat(), DecimalStyle.getAvailableLocales());
+	}
 }
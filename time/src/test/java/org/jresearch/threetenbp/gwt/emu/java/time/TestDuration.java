@@ -669,6 +669,27 @@ public class TestDuration extends AbstractTest {
 		}
 	}
 
+	@Test(expected = DateTimeParseException.class)
+	public void test_factory_parse_wholeText() {
+		String[] texts = { "xPT1S", "PT1Sx", "PT1S ", "P1DT", "P1D2D", "PT1S1H", "PT1M1H", "PT1.1234567891S" };
+		for (int i = 0; i < texts.length; i++) {
+			try {
+				Duration.parse(texts[i]);
+				fail("Missing exception: " + texts[i]);
+			} catch (DateTimeParseException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void test_factory_parse_sections() {
+		assertEquals(Duration.parse("-P1DT2H3M4.5S"), Duration.ofDays(1).plusHours(2).plusMinutes(3).plusSeconds(4).plusMillis(500).negated());
+		assertEquals(Duration.parse("PT1H-1M"), Duration.ofMinutes(59));
+		assertEquals(Duration.parse("PT1.S"), Duration.ofSeconds(1));
+		assertEquals(Duration.parse("P1Dt"), Duration.ofDays(1));
+	}
+
 //	@Test
 //	public void test_deserialization() throws Exception {
 //		Duration orginal = Duration.ofSeconds(2);
@@ -1335,6 +1335,19 @@ public class TestInstant extends AbstractDateTimeTest {
 		assertEquals(Instant.ofEpochSecond(0L, -1000001).toEpochMilli(), -2L);
 	}
 
+	@Test
+	public void test_toEpochMilli_aroundSafeInteger() {
+		// 2^53 - 1 is the largest integer exact in a double
+		long safe = 9007199254740991L;
+		assertEquals(Instant.ofEpochMilli(safe).toEpochMilli(), safe);
+		assertEquals(Instant.ofEpochMilli(safe + 1).toEpochMilli(), safe + 1);
+		assertEquals(Instant.ofEpochMilli(safe + 2).toEpochMilli(), safe + 2);
+		assertEquals(Instant.ofEpochMilli(-safe - 2).toEpochMilli(), -safe - 2);
+		assertEquals(Instant.ofEpochSecond(safe / 1000, 999999999).toEpochMilli(), safe / 1000 * 1000 + 999);
+		assertEquals(Instant.ofEpochSecond(0, safe).getEpochSecond(), safe / 1000000000);
+		assertEquals(Instant.ofEpochSecond(0, -safe - 2).getNano(), 999999999 - (int) ((safe + 1) % 1000000000));
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void test_toEpochMilli_tooBig() {
 		try {
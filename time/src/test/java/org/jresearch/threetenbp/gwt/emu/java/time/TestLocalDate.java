@@ -581,6 +581,17 @@ public class TestLocalDate extends AbstractDateTimeTest {
 		}
 	}
 
+	@Test
+	public void test_factory_ofEpochDay_limits() {
+		assertEquals(LocalDate.ofEpochDay(MAX_VALID_EPOCHDAYS), LocalDate.of(Year.MAX_VALUE, 12, 31));
+		assertEquals(LocalDate.ofEpochDay(MIN_VALID_EPOCHDAYS), LocalDate.of(Year.MIN_VALUE, 1, 1));
+		assertEquals(LocalDate.ofEpochDay(-719528), LocalDate.of(0, 1, 1));
+		assertEquals(LocalDate.ofEpochDay(-719529), LocalDate.of(-1, 12, 31));
+		assertEquals(LocalDate.ofEpochDay(-719469), LocalDate.of(0, 2, 29));
+		assertEquals(LocalDate.of(Year.MAX_VALUE, 12, 31).toEpochDay(), 365241780471L);
+		assertEquals(LocalDate.of(Year.MIN_VALUE, 1, 1).toEpochDay(), -365243219162L);
+	}
+
 	// -----------------------------------------------------------------------
 	// from()
 	// -----------------------------------------------------------------------
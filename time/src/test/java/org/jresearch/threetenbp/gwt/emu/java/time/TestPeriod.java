@@ -33,6 +33,7 @@ package org.jresearch.threetenbp.gwt.emu.java.time;
 
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.Period;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeParseException;
 
 import org.junit.Test;
 
@@ -295,6 +296,19 @@ public class TestPeriod extends AbstractTest {
 		}
 	}
 
+	@Test(expected = DateTimeParseException.class)
+	public void test_parse_wholeText() {
+		String[] texts = { "P", "xP1D", "P1Dx", "P1D ", "P1D1Y", "P1M1Y", "P1Y1Y", "P1YT1D", "P" + Integer.MAX_VALUE + "0D" };
+		for (int i = 0; i < texts.length; i++) {
+			try {
+				Period.parse(texts[i]);
+				fail("Missing exception: " + texts[i]);
+			} catch (DateTimeParseException e) {
+				// expected
+			}
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// isZero()
 	// -----------------------------------------------------------------------
@@ -43,6 +43,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneOffsetTransition;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesException;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesProvider;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -488,6 +489,23 @@ public class TestZoneId extends AbstractTest {
 		assertEquals(test.getRules().isFixedOffset(), false);
 	}
 
+	public void test_of_string_interned() {
+		ZoneId test = ZoneId.of("Europe/Paris");
+		assertSame(test, ZoneId.of("Europe/Paris"));
+		assertSame(test.getRules(), ZoneId.of("Europe/Paris").getRules());
+		ZonedDateTime dateTime = ZonedDateTime.of(2024, 3, 31, 12, 0, 0, 0, test);
+		assertEquals(dateTime, ZonedDateTime.of(2024, 3, 31, 12, 0, 0, 0, ZoneId.of("Europe/Paris")));
+	}
+
+	public void test_of_string_interned_refresh() {
+		ZoneId test = ZoneId.of("Europe/Paris");
+		ZoneRulesProvider.refresh();
+		ZoneId refreshed = ZoneId.of("Europe/Paris");
+		assertNotSame(test, refreshed);
+		assertEquals(test, refreshed);
+		assertSame(refreshed.getRules(), ZoneRulesProvider.getRules("Europe/Paris", true));
+	}
+
 	// -----------------------------------------------------------------------
 	@Test(expected = NullPointerException.class)
 	public void test_of_string_null() {
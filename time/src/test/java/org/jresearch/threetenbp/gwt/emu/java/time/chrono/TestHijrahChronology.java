@@ -33,6 +33,8 @@ package org.jresearch.threetenbp.gwt.emu.java.time.chrono;
 
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_YEAR;
 
 import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
 import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
@@ -40,6 +42,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.Month;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAdjusters;
+import java.util.List;
 import org.junit.Test;
 
 /**
@@ -243,4 +246,35 @@ public class TestHijrahChronology extends AbstractTest {
 		assertFalse(HijrahChronology.INSTANCE.equals(IsoChronology.INSTANCE));
 	}
 
+	// -----------------------------------------------------------------------
+	// ofMonth()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_ofMonth() {
+		for (int year = 1430; year <= 1450; year++) {
+			for (int month = 1; month <= 12; month++) {
+				List<HijrahDate> dates = HijrahDate.ofMonth(year, month);
+				HijrahDate first = HijrahDate.of(year, month, 1);
+				assertEquals(dates.size(), first.lengthOfMonth());
+				for (int i = 0; i < dates.size(); i++) {
+					HijrahDate expected = HijrahDate.of(year, month, i + 1);
+					assertEquals(dates.get(i), expected);
+					assertEquals(dates.get(i).toString(), expected.toString());
+					assertEquals(dates.get(i).get(DAY_OF_WEEK), expected.get(DAY_OF_WEEK));
+					assertEquals(dates.get(i).get(DAY_OF_YEAR), expected.get(DAY_OF_YEAR));
+				}
+			}
+		}
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_ofMonth_badMonth() {
+		try {
+			HijrahDate.ofMonth(1440, 13);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
 }
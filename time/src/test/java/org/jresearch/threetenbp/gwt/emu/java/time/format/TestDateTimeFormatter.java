@@ -49,6 +49,8 @@ import org.jresearch.threetenbp.gwt.emu.java.time.format.DecimalStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.SignStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Test;
@@ -276,6 +278,38 @@ public class TestDateTimeFormatter extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// parseAll(Iterable, Class) GWT specific
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_parseAll_Class_String() throws Exception {
+		List<LocalDate> result = DATE_FORMATTER.parseAll(Arrays.asList("ONE2012 07 27", "ONE2013 08 28"), LocalDate::from);
+		assertEquals(result, Arrays.asList(LocalDate.of(2012, 7, 27), LocalDate.of(2013, 8, 28)));
+	}
+
+	@Test
+	public void test_parseAll_Class_String_optional() throws Exception {
+		DateTimeFormatter test = DateTimeFormatter.ofPattern("uuuu-MM-dd[ HH:mm]");
+		List<LocalDate> result = test.parseAll(Arrays.asList("2012-07-27 10:15", "2013-08-28", "2014-09-29 11:16"), LocalDate::from);
+		assertEquals(result, Arrays.asList(LocalDate.of(2012, 7, 27), LocalDate.of(2013, 8, 28), LocalDate.of(2014, 9, 29)));
+	}
+
+	@Test(expected = DateTimeParseException.class)
+	public void test_parseAll_Class_String_parseError() throws Exception {
+		try {
+			try {
+				DATE_FORMATTER.parseAll(Arrays.asList("ONE2012 07 27", "ONE2012 07 XX"), LocalDate::from);
+			} catch (DateTimeParseException ex) {
+				assertEquals(ex.getParsedString(), "ONE2012 07 XX");
+				assertEquals(ex.getErrorIndex(), 11);
+				throw ex;
+			}
+			fail("Missing exception");
+		} catch (DateTimeParseException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	@Test
 	public void test_parseBest_firstOption() throws Exception {
@@ -37,15 +37,25 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MI
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR;
 
+import org.jresearch.gwt.time.apt.base.Chrono;
+import org.jresearch.gwt.time.apt.data.client.PatternCoordinates;
+import org.jresearch.gwt.time.apt.data.client.PatternInfoFull;
+import org.jresearch.gwt.time.apt.data.client.PatternInfoLong;
+import org.jresearch.gwt.time.apt.data.client.PatternInfoMedium;
+import org.jresearch.gwt.time.apt.data.client.PatternInfoShort;
 import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
 import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.IsoChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.SignStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TextStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -852,4 +862,107 @@ public class TestDateTimeFormatterBuilder extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// GWT specific - the indexed CLDR patterns match a scan of the pattern data
+	Locale[] dataLocalizedLocales() {
+		return new Locale[] { Locale.ENGLISH, Locale.US, Locale.UK, Locale.FRANCE, Locale.GERMANY, Locale.JAPAN,
+				new Locale("ru", "RU"), new Locale("en", "US", "POSIX"), new Locale("xx", "YY"), Locale.ROOT, };
+	}
+
+	@Test
+	public void test_localizedPattern_date() throws Exception {
+		for (Locale locale : dataLocalizedLocales()) {
+			for (FormatStyle dateStyle : FormatStyle.values()) {
+				assertLocalizedPattern(dateStyle, null, locale);
+			}
+		}
+	}
+
+	@Test
+	public void test_localizedPattern_time() throws Exception {
+		for (Locale locale : dataLocalizedLocales()) {
+			for (FormatStyle timeStyle : FormatStyle.values()) {
+				assertLocalizedPattern(null, timeStyle, locale);
+			}
+		}
+	}
+
+	@Test
+	public void test_localizedPattern_dateTime() throws Exception {
+		for (Locale locale : dataLocalizedLocales()) {
+			for (FormatStyle dateStyle : FormatStyle.values()) {
+				for (FormatStyle timeStyle : FormatStyle.values()) {
+					assertLocalizedPattern(dateStyle, timeStyle, locale);
+				}
+			}
+		}
+	}
+
+	private void assertLocalizedPattern(FormatStyle dateStyle, FormatStyle timeStyle, Locale locale) {
+		String pattern = scanPattern(dateStyle, timeStyle, locale);
+		String message = dateStyle + "|" + timeStyle + "|" + locale;
+		SimpleDateTimeFormatStyleProvider provider = new SimpleDateTimeFormatStyleProvider();
+		if (pattern == null) {
+			try {
+				provider.getFormatter(dateStyle, timeStyle, IsoChronology.INSTANCE, locale);
+				fail("Missing exception: " + message);
+			} catch (IllegalArgumentException ex) {
+				// expected
+			}
+			return;
+		}
+		DateTimeFormatter expected = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+		assertEquals(message, expected.toString(),
+				provider.getFormatter(dateStyle, timeStyle, IsoChronology.INSTANCE, locale).toString());
+	}
+
+	private static String scanPattern(FormatStyle dateStyle, FormatStyle timeStyle, Locale locale) {
+		if (dateStyle == null) {
+			return scanPattern(timeMap(timeStyle), locale);
+		}
+		String datePattern = scanPattern(dateMap(dateStyle), locale);
+		if (timeStyle == null) {
+			return datePattern;
+		}
+		String timePattern = scanPattern(timeMap(timeStyle), locale);
+		FormatStyle dateTimeStyle = FormatStyle.values()[Math.min(dateStyle.ordinal(), timeStyle.ordinal())];
+		String dateTimePattern = scanPattern(dateTimeMap(dateTimeStyle), locale);
+		if (datePattern == null || timePattern == null || dateTimePattern == null) {
+			return null;
+		}
+		return dateTimePattern.replace("{1}", datePattern).replace("{0}", timePattern).replace("'", "");
+	}
+
+	private static String scanPattern(Map<String, PatternCoordinates[]> patterns, Locale locale) {
+		String pattern = patterns.entrySet().stream()
+				.filter(e -> Stream.of(e.getValue()).anyMatch(pc -> Chrono.ISO.equals(pc.chrono()) && locale.equals(pc.locale())))
+				.findFirst().map(Entry::getKey).orElse(null);
+		if (pattern != null || Locale.ROOT.equals(locale)) {
+			return pattern;
+		}
+		if (!locale.getVariant().isEmpty()) {
+			return scanPattern(patterns, new Locale(locale.getLanguage(), locale.getCountry()));
+		}
+		return scanPattern(patterns, locale.getCountry().isEmpty() ? Locale.ROOT : new Locale(locale.getLanguage()));
+	}
+
+	private static Map<String, PatternCoordinates[]> dateMap(FormatStyle style) {
+		return style == FormatStyle.FULL ? PatternInfoFull.DATE_PATTERNS
+				: style == FormatStyle.LONG ? PatternInfoLong.DATE_PATTERNS
+						: style == FormatStyle.MEDIUM ? PatternInfoMedium.DATE_PATTERNS : PatternInfoShort.DATE_PATTERNS;
+	}
+
+	private static Map<String, PatternCoordinates[]> timeMap(FormatStyle style) {
+		return style == FormatStyle.FULL ? PatternInfoFull.TIME_PATTERNS
+				: style == FormatStyle.LONG ? PatternInfoLong.TIME_PATTERNS
+						: style == FormatStyle.MEDIUM ? PatternInfoMedium.TIME_PATTERNS : PatternInfoShort.TIME_PATTERNS;
+	}
+
+	private static Map<String, PatternCoordinates[]> dateTimeMap(FormatStyle style) {
+		return style == FormatStyle.FULL ? PatternInfoFull.DATE_TIME_PATTERNS
+				: style == FormatStyle.LONG ? PatternInfoLong.DATE_TIME_PATTERNS
+						: style == FormatStyle.MEDIUM ? PatternInfoMedium.DATE_TIME_PATTERNS
+								: PatternInfoShort.DATE_TIME_PATTERNS;
+	}
+
 }
@@ -51,14 +51,18 @@ import java.util.Objects;
 import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
 import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
 import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.OffsetDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.Year;
 import org.jresearch.threetenbp.gwt.emu.java.time.YearMonth;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.Chronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.IsoChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
@@ -1339,6 +1343,59 @@ public class TestDateTimeFormatters extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// GWT specific - fixed layout of the ISO constants
+	// -----------------------------------------------------------------------
+	public void test_print_iso_fixedLayout() {
+		LocalDateTime dateTime = LocalDateTime.of(2008, 6, 30, 11, 5, 30, 500_000_000);
+		assertEquals("2008-06-30", DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime.toLocalDate()));
+		assertEquals("2008-06-30", DateTimeFormatter.ISO_LOCAL_DATE.format(dateTime));
+		assertEquals("11:05:30.5", DateTimeFormatter.ISO_LOCAL_TIME.format(dateTime.toLocalTime()));
+		assertEquals("11:05:00", DateTimeFormatter.ISO_LOCAL_TIME.format(LocalTime.of(11, 5)));
+		assertEquals("2008-06-30T11:05:30.5", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+		assertEquals("2008-06-30T11:05:30.5+01:00", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime.atOffset(ZoneOffset.ofHours(1))));
+		assertEquals("2008-06-30T11:05:30.5Z", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime.atOffset(ZoneOffset.UTC)));
+		assertEquals("2008-06-30T11:05:30.500Z", DateTimeFormatter.ISO_INSTANT.format(dateTime.toInstant(ZoneOffset.UTC)));
+		assertEquals("2008-06-30T11:05:30.000001Z", DateTimeFormatter.ISO_INSTANT.format(dateTime.withNano(1000).toInstant(ZoneOffset.UTC)));
+		assertEquals("1970-01-01T00:00:00Z", DateTimeFormatter.ISO_INSTANT.format(Instant.EPOCH));
+		// general engine
+		assertEquals("+12008-06-30", DateTimeFormatter.ISO_LOCAL_DATE.format(LocalDate.of(12008, 6, 30)));
+		assertEquals("-0001-06-30", DateTimeFormatter.ISO_LOCAL_DATE.format(LocalDate.of(-1, 6, 30)));
+	}
+
+	public void test_parse_iso_fixedLayout() {
+		assertEquals(LocalDate.of(2008, 6, 30), LocalDate.parse("2008-06-30"));
+		assertEquals(LocalTime.of(11, 5), LocalTime.parse("11:05"));
+		assertEquals(LocalTime.of(11, 5, 30, 123_000_000), LocalTime.parse("11:05:30.123"));
+		assertEquals(LocalDateTime.of(2008, 6, 30, 11, 5, 30, 1), LocalDateTime.parse("2008-06-30T11:05:30.000000001"));
+		assertEquals(OffsetDateTime.of(2008, 6, 30, 11, 5, 30, 0, ZoneOffset.ofHoursMinutesSeconds(-1, -30, -15)), OffsetDateTime.parse("2008-06-30T11:05:30-01:30:15"));
+		assertEquals(OffsetDateTime.of(2008, 6, 30, 11, 5, 0, 0, ZoneOffset.UTC), OffsetDateTime.parse("2008-06-30T11:05Z"));
+		assertEquals(Instant.ofEpochSecond(1214823930, 500_000_000), Instant.parse("2008-06-30T11:05:30.5Z"));
+		assertEquals(LocalDate.of(2008, 6, 30), DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse("2008-06-30T11:05", LocalDate::from));
+		assertEquals(ZoneOffset.ofHours(1), DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse("2008-06-30T11:05+01:00", TemporalQueries.offset()));
+		assertNull(DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse("2008-06-30T11:05", TemporalQueries.zone()));
+		// queries answered by the parsed fields
+		assertEquals(IsoChronology.INSTANCE, DateTimeFormatter.ISO_LOCAL_TIME.parse("11:05", TemporalQueries.chronology()));
+		assertEquals(IsoChronology.INSTANCE, DateTimeFormatter.ISO_INSTANT.parse("2008-06-30T11:05:30Z", TemporalQueries.chronology()));
+		assertEquals(IsoChronology.INSTANCE, DateTimeFormatter.ISO_LOCAL_DATE.parse("2008-06-30", TemporalQueries.chronology()));
+		assertNull(DateTimeFormatter.ISO_LOCAL_DATE.parse("2008-06-30", TemporalQueries.precision()));
+		// general engine
+		assertEquals(LocalDateTime.of(2008, 6, 30, 11, 5), LocalDateTime.parse("2008-06-30t11:05"));
+		assertEquals(LocalDate.of(12008, 6, 30), LocalDate.parse("+12008-06-30"));
+		try {
+			LocalDate.parse("2008-02-30");
+			fail();
+		} catch (DateTimeParseException ex) {
+			// expected
+		}
+		try {
+			DateTimeFormatter.ISO_LOCAL_TIME.parse("11:05", LocalDate::from);
+			fail();
+		} catch (DateTimeParseException ex) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
@@ -32,6 +32,7 @@
 package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.EPOCH_DAY;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.HOUR_OF_DAY;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.INSTANT_SECONDS;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MICRO_OF_SECOND;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MILLI_OF_SECOND;
@@ -39,16 +40,20 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.NA
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.OFFSET_SECONDS;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.SECOND_OF_DAY;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR;
 
 import java.util.Locale;
 
 import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
 import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.junit.Test;
 
@@ -384,6 +389,31 @@ public class TestDateTimeParsing extends AbstractTest {
 		assertEquals(acc.getLong(MILLI_OF_SECOND), 123L);
 	}
 
+	@Test
+	public void test_parse_fromField_mixedChronoAndOtherFields() {
+		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendValue(YEAR).appendLiteral('-')
+				.appendValue(IsoFields.QUARTER_OF_YEAR).appendLiteral('-').appendValue(IsoFields.DAY_OF_QUARTER)
+				.appendLiteral(' ').appendValue(HOUR_OF_DAY).toFormatter();
+		TemporalAccessor acc = fmt.parse("2020-2-10 13");
+		assertEquals(LocalDate.from(acc), LocalDate.of(2020, 4, 10));
+		assertEquals(LocalTime.from(acc), LocalTime.of(13, 0));
+		assertEquals(acc.isSupported(IsoFields.QUARTER_OF_YEAR), true);
+		assertEquals(acc.getLong(IsoFields.DAY_OF_QUARTER), 10L);
+	}
+
+	@Test
+	public void test_parse_fromField_conflict() {
+		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendValue(EPOCH_DAY).appendLiteral(' ')
+				.appendValue(YEAR).toFormatter();
+		assertEquals(LocalDate.from(fmt.parse("18262 2020")), LocalDate.of(2020, 1, 1));
+		try {
+			fmt.parse("18262 2021");
+			fail("Expected DateTimeException");
+		} catch (DateTimeException ex) {
+			// expected
+		}
+	}
+
 	@Test
 	public void disable_test_parse_tzdbGmtZoneEtc() {
 		String dateString = "2015,7,21,0,0,0,Etc/GMT-2";
@@ -34,6 +34,8 @@ package org.jresearch.threetenbp.gwt.emu.java.time.format;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.HOUR_OF_DAY;
 
+import java.util.Locale;
+
 import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder.NumberPrinterParser;
@@ -244,6 +246,78 @@ public class TestNumberPrinter extends AbstractTestPrinterParser {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// GWT specific - the int print path of the non-negative values
+	public void test_print_int_zeroPad() throws Exception {
+		assertEquals(printInt(3, 5, SignStyle.NOT_NEGATIVE, 7), "007");
+		assertEquals(printInt(4, 4, SignStyle.NOT_NEGATIVE, 0), "0000");
+		assertEquals(printInt(2, 10, SignStyle.NORMAL, 123456), "123456");
+	}
+
+	public void test_print_int_EXCEEDS_PAD() throws Exception {
+		assertEquals(printInt(2, 4, SignStyle.EXCEEDS_PAD, 5), "05");
+		assertEquals(printInt(2, 4, SignStyle.EXCEEDS_PAD, 12), "12");
+		assertEquals(printInt(2, 4, SignStyle.EXCEEDS_PAD, 123), "+123");
+	}
+
+	public void test_print_int_ALWAYS() throws Exception {
+		assertEquals(printInt(2, 2, SignStyle.ALWAYS, 0), "+00");
+		assertEquals(printInt(2, 2, SignStyle.ALWAYS, 5), "+05");
+		assertEquals(printInt(1, 3, SignStyle.ALWAYS, 123), "+123");
+	}
+
+	public void test_print_int_NEVER() throws Exception {
+		assertEquals(printInt(2, 2, SignStyle.NEVER, 5), "05");
+		assertEquals(printInt(1, 3, SignStyle.NEVER, 123), "123");
+	}
+
+	public void test_print_int_exceedsMaxWidth() throws Exception {
+		assertPrintIntFails(1, 2, SignStyle.NEVER, 123);
+		assertPrintIntFails(1, 2, SignStyle.NOT_NEGATIVE, 100);
+		assertPrintIntFails(2, 2, SignStyle.EXCEEDS_PAD, 100);
+		assertPrintIntFails(1, 9, SignStyle.NORMAL, Integer.MAX_VALUE);
+	}
+
+	public void test_print_int_intLimits() throws Exception {
+		assertEquals(printInt(1, 10, SignStyle.NOT_NEGATIVE, Integer.MAX_VALUE - 1), "2147483646");
+		assertEquals(printInt(1, 10, SignStyle.NOT_NEGATIVE, Integer.MAX_VALUE), "2147483647");
+		assertEquals(printInt(1, 10, SignStyle.EXCEEDS_PAD, Integer.MAX_VALUE), "+2147483647");
+		assertEquals(printInt(1, 10, SignStyle.NOT_NEGATIVE, Integer.MAX_VALUE + 1L), "2147483648");
+		assertEquals(printInt(1, 10, SignStyle.NORMAL, Integer.MIN_VALUE + 1), "-2147483647");
+		assertEquals(printInt(1, 10, SignStyle.NORMAL, Integer.MIN_VALUE), "-2147483648");
+		assertEquals(printInt(1, 10, SignStyle.NEVER, Integer.MIN_VALUE), "2147483648");
+		assertPrintIntFails(1, 10, SignStyle.NOT_NEGATIVE, Integer.MIN_VALUE);
+	}
+
+	public void test_print_int_zeroDigit() throws Exception {
+		DecimalStyle symbols = DecimalStyle.STANDARD.withZeroDigit('A');
+		assertEquals(printInt(3, 3, SignStyle.NOT_NEGATIVE, 12, symbols), "ABC");
+		assertEquals(printInt(1, 2, SignStyle.ALWAYS, 9, symbols), "+J");
+		assertEquals(printInt(2, 4, SignStyle.EXCEEDS_PAD, 123, symbols), "+BCD");
+	}
+
+	private String printInt(int minWidth, int maxWidth, SignStyle signStyle, long value) {
+		return printInt(minWidth, maxWidth, signStyle, value, DecimalStyle.STANDARD);
+	}
+
+	private String printInt(int minWidth, int maxWidth, SignStyle signStyle, long value, DecimalStyle symbols) {
+		DateTimePrintContext context = new DateTimePrintContext(new MockFieldValue(DAY_OF_MONTH, value),
+				Locale.ENGLISH, symbols);
+		NumberPrinterParser pp = new NumberPrinterParser(DAY_OF_MONTH, minWidth, maxWidth, signStyle);
+		StringBuilder buf = new StringBuilder();
+		pp.print(context, buf);
+		return buf.toString();
+	}
+
+	private void assertPrintIntFails(int minWidth, int maxWidth, SignStyle signStyle, long value) {
+		try {
+			printInt(minWidth, maxWidth, signStyle, value);
+			fail("Expected exception");
+		} catch (DateTimeException ex) {
+			assertEquals(ex.getMessage().contains(DAY_OF_MONTH.toString()), true);
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	public void test_toString1() throws Exception {
 		NumberPrinterParser pp = new NumberPrinterParser(HOUR_OF_DAY, 1, 19, SignStyle.NORMAL);
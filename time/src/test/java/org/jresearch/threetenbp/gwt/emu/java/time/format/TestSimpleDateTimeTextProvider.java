@@ -33,6 +33,7 @@ package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.AMPM_OF_DAY;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ERA;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
 import java.util.Locale;
@@ -183,6 +184,11 @@ public class TestSimpleDateTimeTextProvider extends AbstractTest {
 
 				{ AMPM_OF_DAY, 0, TextStyle.SHORT, enUS, "AM" },
 				{ AMPM_OF_DAY, 1, TextStyle.SHORT, enUS, "PM" },
+				{ AMPM_OF_DAY, 1, TextStyle.SHORT_STANDALONE, enUS, "PM" },
+
+				{ ERA, 0, TextStyle.SHORT, enUS, "BC" },
+				{ ERA, 1, TextStyle.SHORT, enUS, "AD" },
+				{ ERA, 1, TextStyle.SHORT_STANDALONE, enUS, "AD" },
 
 		};
 	}
@@ -141,6 +141,24 @@ public class TestTextPrinter extends AbstractTestPrinterParser {
 		assertEquals("janv.", buf.toString());
 	}
 
+	// -----------------------------------------------------------------------
+	// GWT specific
+	public void test_print_boundLocale() throws Exception {
+		printContext.setDateTime(LocalDate.of(2012, 4, 18));
+		TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER).withLocale(printContext.getLocale());
+		pp.print(printContext, buf);
+		pp.print(printContext, buf);
+		assertEquals(buf.toString(), "AprilApril");
+	}
+
+	// GWT specific
+	public void test_print_boundOtherLocale() throws Exception {
+		printContext.setDateTime(LocalDate.of(2012, 4, 18));
+		TextPrinterParser pp = new TextPrinterParser(DAY_OF_WEEK, TextStyle.SHORT, PROVIDER).withLocale(Locale.FRENCH);
+		pp.print(printContext, buf);
+		assertEquals(buf.toString(), "Wed");
+	}
+
 	// -----------------------------------------------------------------------
 	public void test_toString1() throws Exception {
 		TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER);
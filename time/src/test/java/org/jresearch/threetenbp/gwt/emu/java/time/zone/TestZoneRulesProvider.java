@@ -78,6 +78,28 @@ public class TestZoneRulesProvider extends AbstractTest {
 		assertEquals(rules2, rules);
 	}
 
+	@Test
+	public void test_getRules_String_cached() {
+		ZoneRules rules = ZoneRulesProvider.getRules("Europe/Paris", true);
+		assertSame(rules, ZoneRulesProvider.getRules("Europe/Paris", true));
+		for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+			assertNotNull(ZoneRulesProvider.getRules(zoneId, true));
+		}
+		// evicted rules are decoded again
+		assertEquals(rules, ZoneRulesProvider.getRules("Europe/Paris", true));
+	}
+
+	@Test
+	public void test_getRules_String_notCached() {
+		MockDynamicProvider provider = new MockDynamicProvider();
+		ZoneRulesProvider.registerProvider(provider);
+		assertNull(ZoneRulesProvider.getRules("DynamicLocation", true));
+		assertEquals(ZoneOffset.of("+02:00").getRules(), ZoneRulesProvider.getRules("DynamicLocation", false));
+		provider.rules = ZoneOffset.of("+03:00").getRules();
+		assertEquals(ZoneOffset.of("+03:00").getRules(), ZoneRulesProvider.getRules("DynamicLocation", false));
+		assertNull(ZoneRulesProvider.getRules("DynamicLocation", true));
+	}
+
 	@Test(expected = ZoneRulesException.class)
 	public void test_getRules_String_unknownId() {
 		try {
@@ -181,4 +203,29 @@ public class TestZoneRulesProvider extends AbstractTest {
 		}
 	}
 
+	static class MockDynamicProvider extends ZoneRulesProvider {
+		ZoneRules rules = ZoneOffset.of("+02:00").getRules();
+
+		@Override
+		public Set<String> provideZoneIds() {
+			return new HashSet<String>(Collections.singleton("DynamicLocation"));
+		}
+
+		@Override
+		protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+			NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+			result.put("DynamicVersion", rules);
+			return result;
+		}
+
+		@Override
+		protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+			if (zoneId.equals("DynamicLocation")) {
+				// prevents the caching, the rules may change
+				return forCaching ? null : rules;
+			}
+			throw new ZoneRulesException("Invalid");
+		}
+	}
+
 }
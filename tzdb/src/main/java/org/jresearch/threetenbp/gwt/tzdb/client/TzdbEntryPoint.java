@@ -10,6 +10,11 @@ public class TzdbEntryPoint implements EntryPoint {
 	@Override
 	public void onModuleLoad() {
 		Support.registerGwtZoneRuleProvider(new GwtTzdbZoneRuleProvider());
+		if (Boolean.parseBoolean(System.getProperty("gwt-time.tzdb.asyncInit", "false"))) {
+			Support.initTzDataAsync(() -> {
+				// nothing to do, zone lookups just stop blocking
+			});
+		}
 	}
 
 }
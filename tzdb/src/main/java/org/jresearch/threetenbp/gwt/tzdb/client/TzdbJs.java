@@ -7,6 +7,7 @@ import javax.annotation.Nonnull;
 import org.gwtproject.typedarrays.shared.Uint8Array;
 
 import elemental2.core.ArrayBuffer;
+import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsType;
 
@@ -21,4 +22,37 @@ public class TzdbJs {
 	@JsMethod(namespace = "Base64Binary")
 	public static native Uint8Array decode(String base64);
 
+	@Nonnull
+	@JsMethod(namespace = "Base64Binary")
+	public static native String normalize(String base64);
+
+	@JsMethod(namespace = "Base64Binary")
+	public static native int decodedLength(String normalized);
+
+	/**
+	 * @param from - first byte to decode, multiple of 3
+	 * @param to   - byte to stop before
+	 */
+	@JsMethod(namespace = "Base64Binary")
+	public static native void decodeSlice(String normalized, ArrayBuffer buffer, int from, int to);
+
+	@JsMethod(namespace = "TzdbLoader")
+	public static native void fetchArrayBuffer(String url, ArrayBufferCallback onSuccess, FailureCallback onFailure);
+
+	/**
+	 * @return the loaded data or null
+	 */
+	@JsMethod(namespace = "TzdbLoader")
+	public static native ArrayBuffer loadArrayBuffer(String url);
+
+	@JsFunction
+	public interface ArrayBufferCallback {
+		void onSuccess(ArrayBuffer buffer);
+	}
+
+	@JsFunction
+	public interface FailureCallback {
+		void onFailure(String message);
+	}
+
 }
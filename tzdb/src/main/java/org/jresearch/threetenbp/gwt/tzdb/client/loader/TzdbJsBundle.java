@@ -3,6 +3,9 @@ package org.jresearch.threetenbp.gwt.tzdb.client.loader;
 import javax.annotation.Nonnull;
 
 import com.google.gwt.resources.client.ClientBundle;
+import com.google.gwt.resources.client.DataResource;
+import com.google.gwt.resources.client.DataResource.DoNotEmbed;
+import com.google.gwt.resources.client.DataResource.MimeType;
 import com.google.gwt.resources.client.TextResource;
 
 public interface TzdbJsBundle extends ClientBundle {
@@ -15,4 +18,84 @@ public interface TzdbJsBundle extends ClientBundle {
 	@Source("TZDB.txt")
 	public TextResource tzdbEncoded();
 
+	@Nonnull
+	@Source("tzdb-loader.js")
+	public TextResource tzdbLoader();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB.dat")
+	public DataResource tzdbBinary();
+
+	@Nonnull
+	@Source("TZDB-index.txt")
+	public TextResource tzdbIndex();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Africa.dat")
+	public DataResource tzdbAfrica();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-America.dat")
+	public DataResource tzdbAmerica();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Antarctica.dat")
+	public DataResource tzdbAntarctica();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Asia.dat")
+	public DataResource tzdbAsia();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Atlantic.dat")
+	public DataResource tzdbAtlantic();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Australia.dat")
+	public DataResource tzdbAustralia();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Etc.dat")
+	public DataResource tzdbEtc();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Europe.dat")
+	public DataResource tzdbEurope();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Indian.dat")
+	public DataResource tzdbIndian();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Pacific.dat")
+	public DataResource tzdbPacific();
+
+	@Nonnull
+	@DoNotEmbed
+	@MimeType("application/octet-stream")
+	@Source("TZDB-Other.dat")
+	public DataResource tzdbOther();
+
 }
@@ -0,0 +1,22 @@
+package org.jresearch.threetenbp.gwt.tzdb.client.loader;
+
+/**
+ * The TZDB data reduced at compile time to the zones and years configured
+ * with {@code gwt-time.tzdb.include} and {@code gwt-time.tzdb.minYear}. Created by
+ * {@code org.jresearch.threetenbp.gwt.tzdb.rebind.TzdbSubsetGenerator}.
+ */
+public interface TzdbSubset {
+
+	/**
+	 * @return {@code true} if a subset is configured, otherwise the full
+	 *         {@link TzdbJsBundle#tzdbEncoded()} data should be used
+	 */
+	boolean isSubset();
+
+	/**
+	 * @return the base64 encoded subset in the {@code TZDB.dat} format or
+	 *         {@code null} if no subset is configured
+	 */
+	String tzdbEncoded();
+
+}
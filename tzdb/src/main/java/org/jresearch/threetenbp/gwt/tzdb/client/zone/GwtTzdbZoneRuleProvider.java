@@ -1,17 +1,29 @@
 package org.jresearch.threetenbp.gwt.tzdb.client.zone;
 
 import java.nio.ByteBuffer;
+import java.time.zone.ZoneRulesException;
 import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.gwtproject.nio.TypedArrayHelper;
+import org.jresearch.threetenbp.gwt.time.client.Support;
 import org.jresearch.threetenbp.gwt.time.client.zone.GwtZoneRuleProvider;
 import org.jresearch.threetenbp.gwt.tzdb.client.TzdbJs;
 import org.jresearch.threetenbp.gwt.tzdb.client.loader.TzdbJsBundle;
+import org.jresearch.threetenbp.gwt.tzdb.client.loader.TzdbSubset;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.RepeatingCommand;
 import com.google.gwt.core.client.ScriptInjector;
+import com.google.gwt.resources.client.DataResource;
 
 import elemental2.core.ArrayBuffer;
 
@@ -20,8 +32,30 @@ public class GwtTzdbZoneRuleProvider implements GwtZoneRuleProvider {
 	private static final Logger LOGGER = LoggerFactory.getLogger(GwtTzdbZoneRuleProvider.class);
 
 	private static final TzdbJsBundle bundle = GWT.create(TzdbJsBundle.class);
+	private static final TzdbSubset subset = GWT.create(TzdbSubset.class);
+
+	/**
+	 * "text" decodes the data embedded in the script, "binary" loads TZDB.dat as
+	 * a separate file, "split" loads the region fragments on demand
+	 */
+	private static final String LOADER = System.getProperty("gwt-time.tzdb.loader", "text");
+	private static final boolean BINARY_LOADER = "binary".equals(LOADER);
+	private static final boolean SPLIT_LOADER = "split".equals(LOADER);
+	/**
+	 * The synchronous XHR fallback of the "binary" and "split" loaders, used by
+	 * the zone lookups made before the data is fetched asynchronously: "warn"
+	 * loads and logs a warning, "true" loads silently, "false" fails the lookup
+	 */
+	private static final String SYNC_LOAD = System.getProperty("gwt-time.tzdb.syncLoad", "warn");
+
+	/** Bytes decoded per scheduler slice, multiple of 3 */
+	private static final int ASYNC_SLICE_SIZE = 3 * 4096;
 
 	private static boolean initialized = false;
+	private static boolean base64ScriptInjected = false;
+	private static boolean loaderScriptInjected = false;
+	private static List<Runnable> asyncCallbacks = null;
+	private static SplitTzdbZoneRulesProvider splitProvider = null;
 
 	@Override
 	public boolean isInitialized() {
@@ -33,22 +67,241 @@ public class GwtTzdbZoneRuleProvider implements GwtZoneRuleProvider {
 		LOGGER.debug("TZDB sync initialization called");
 		if (!initialized) {
 			LOGGER.debug("TZDB sync initialization started");
-			ScriptInjector.fromString(bundle.base64binary().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
-			String tzData = bundle.tzdbEncoded().getText();
-			ArrayBuffer buffer = TzdbJs.decodeArrayBuffer(tzData);
-			ByteBuffer data = TypedArrayHelper.wrap(buffer);
-			ZoneRulesProvider provider = new TzdbZoneRulesProvider(data);
-			if (!initialized) {
-				ZoneRulesProvider.registerProvider(provider);
+			if (SPLIT_LOADER) {
+				injectLoaderScript();
+				List<String> regionIds = Arrays.asList(bundle.tzdbIndex().getText().split("\n"));
+				splitProvider = new SplitTzdbZoneRulesProvider(regionIds, GwtTzdbZoneRuleProvider::loadFragment);
+				register(splitProvider);
+				LOGGER.debug("TZDB sync initialization finished");
+				return;
+			}
+			ArrayBuffer buffer;
+			if (BINARY_LOADER) {
+				injectLoaderScript();
+				buffer = loadSync(bundle.tzdbBinary().getSafeUri().asString());
+			} else {
+				injectBase64Script();
+				buffer = TzdbJs.decodeArrayBuffer(tzdbEncoded());
 			}
+			register(new TzdbZoneRulesProvider(TypedArrayHelper.wrap(buffer)));
 			LOGGER.debug("TZDB sync initialization finished");
-			initialized = true;
 		}
 	}
 
+	@Override
+	public void initializeAsync(Runnable onReady) {
+		LOGGER.debug("TZDB async initialization called");
+		if (SPLIT_LOADER) {
+			initializeSplitAsync(onReady);
+			return;
+		}
+		if (initialized) {
+			onReady.run();
+			return;
+		}
+		if (asyncCallbacks != null) {
+			// already in progress
+			asyncCallbacks.add(onReady);
+			return;
+		}
+		LOGGER.debug("TZDB async initialization started");
+		asyncCallbacks = new ArrayList<>();
+		asyncCallbacks.add(onReady);
+		if (BINARY_LOADER) {
+			injectLoaderScript();
+			TzdbJs.fetchArrayBuffer(bundle.tzdbBinary().getSafeUri().asString(), buffer -> {
+				if (!initialized) {
+					register(new TzdbZoneRulesProvider(TypedArrayHelper.wrap(buffer)));
+				}
+				finishAsync();
+			}, message -> {
+				LOGGER.error("TZDB async initialization failed: {}", message);
+				finishAsync();
+			});
+		} else {
+			Scheduler.get().scheduleIncremental(new AsyncLoader());
+		}
+	}
+
+	private static void injectBase64Script() {
+		if (!base64ScriptInjected) {
+			ScriptInjector.fromString(bundle.base64binary().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
+			base64ScriptInjected = true;
+		}
+	}
+
+	/**
+	 * @return the compile time subset if configured, otherwise the full data
+	 */
+	private static String tzdbEncoded() {
+		return subset.isSubset() ? subset.tzdbEncoded() : bundle.tzdbEncoded().getText();
+	}
+
+	private static void injectLoaderScript() {
+		if (!loaderScriptInjected) {
+			ScriptInjector.fromString(bundle.tzdbLoader().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
+			loaderScriptInjected = true;
+		}
+	}
+
+	/**
+	 * The split index is embedded, so it is registered at once and only the
+	 * fragment of the system default zone is fetched in advance.
+	 */
+	private void initializeSplitAsync(Runnable onReady) {
+		preloadAsync(Arrays.asList(Support.getTimezone()), onReady);
+	}
+
+	/**
+	 * Fetches the rules of the zones asynchronously, so the later lookups of
+	 * the zones don't block on the network. With the "split" loader only the
+	 * missing areas of the zones are fetched, the other loaders fetch all the
+	 * data as {@code Support.initTzDataAsync}.
+	 *
+	 * @param zoneIds - the zone IDs to be used, not null
+	 * @param onReady - called once the data is loaded, also if a fetch failed
+	 */
+	public static void preloadAsync(Collection<String> zoneIds, Runnable onReady) {
+		if (!SPLIT_LOADER) {
+			Support.initTzDataAsync(onReady);
+			return;
+		}
+		new GwtTzdbZoneRuleProvider().initialize();
+		Set<String> fragments = new LinkedHashSet<>();
+		for (String zoneId : zoneIds) {
+			String fragment = TzdbFragments.fragmentOf(zoneId);
+			if (!splitProvider.isLoaded(fragment)) {
+				fragments.add(fragment);
+			}
+		}
+		if (fragments.isEmpty()) {
+			onReady.run();
+			return;
+		}
+		int[] remaining = { fragments.size() };
+		Runnable done = () -> {
+			if (--remaining[0] == 0) {
+				onReady.run();
+			}
+		};
+		for (String fragment : fragments) {
+			TzdbJs.fetchArrayBuffer(fragmentResource(fragment).getSafeUri().asString(), buffer -> {
+				splitProvider.preload(fragment, TypedArrayHelper.wrap(buffer));
+				done.run();
+			}, message -> {
+				LOGGER.error("TZDB fragment {} prefetch failed: {}", fragment, message);
+				done.run();
+			});
+		}
+	}
+
+	private static ByteBuffer loadFragment(String fragment) {
+		LOGGER.debug("TZDB fragment {} load", fragment);
+		return TypedArrayHelper.wrap(loadSync(fragmentResource(fragment).getSafeUri().asString()));
+	}
+
+	/**
+	 * Loads the data with a synchronous XHR, it blocks the UI thread on the
+	 * network and is deprecated on the main thread by the browsers.
+	 */
+	private static ArrayBuffer loadSync(String url) {
+		if ("false".equals(SYNC_LOAD)) {
+			throw new ZoneRulesException("Synchronous load of " + url + " is disabled (gwt-time.tzdb.syncLoad), "
+					+ "load the data with Support.initTzDataAsync or GwtTzdbZoneRuleProvider.preloadAsync first");
+		}
+		if (!"true".equals(SYNC_LOAD)) {
+			LOGGER.warn("TZDB data {} is loaded with a synchronous XHR, "
+					+ "use Support.initTzDataAsync or GwtTzdbZoneRuleProvider.preloadAsync to load it in advance", url);
+		}
+		ArrayBuffer buffer = TzdbJs.loadArrayBuffer(url);
+		if (buffer == null) {
+			throw new ZoneRulesException("Unable to load TZDB time-zone rules from " + url);
+		}
+		return buffer;
+	}
+
+	private static DataResource fragmentResource(String fragment) {
+		switch (fragment) {
+		case "Africa":
+			return bundle.tzdbAfrica();
+		case "America":
+			return bundle.tzdbAmerica();
+		case "Antarctica":
+			return bundle.tzdbAntarctica();
+		case "Asia":
+			return bundle.tzdbAsia();
+		case "Atlantic":
+			return bundle.tzdbAtlantic();
+		case "Australia":
+			return bundle.tzdbAustralia();
+		case "Etc":
+			return bundle.tzdbEtc();
+		case "Europe":
+			return bundle.tzdbEurope();
+		case "Indian":
+			return bundle.tzdbIndian();
+		case "Pacific":
+			return bundle.tzdbPacific();
+		default:
+			return bundle.tzdbOther();
+		}
+	}
+
+	private static void register(ZoneRulesProvider provider) {
+		if (!initialized) {
+			ZoneRulesProvider.registerProvider(provider);
+		}
+		initialized = true;
+	}
+
+	private static void finishAsync() {
+		List<Runnable> callbacks = asyncCallbacks;
+		asyncCallbacks = null;
+		LOGGER.debug("TZDB async initialization finished");
+		callbacks.forEach(Runnable::run);
+	}
+
 	@Override
 	public String getProviderId() {
 		return TzdbZoneRulesProvider.class.getName();
 	}
 
+	/**
+	 * Decodes the TZDB data one slice per scheduler run and registers the
+	 * provider at the end, so the browser can handle events in between.
+	 */
+	private static final class AsyncLoader implements RepeatingCommand {
+
+		private String tzData;
+		private ArrayBuffer buffer;
+		private int length;
+		private int position;
+
+		@Override
+		public boolean execute() {
+			if (initialized) {
+				// done meanwhile by a synchronous call
+				finishAsync();
+				return false;
+			}
+			if (tzData == null) {
+				injectBase64Script();
+				tzData = TzdbJs.normalize(tzdbEncoded());
+				length = TzdbJs.decodedLength(tzData);
+				buffer = new ArrayBuffer(length);
+				return true;
+			}
+			if (position < length) {
+				int to = Math.min(position + ASYNC_SLICE_SIZE, length);
+				TzdbJs.decodeSlice(tzData, buffer, position, to);
+				position = to;
+				return true;
+			}
+			register(new TzdbZoneRulesProvider(TypedArrayHelper.wrap(buffer)));
+			finishAsync();
+			return false;
+		}
+
+	}
+
 }
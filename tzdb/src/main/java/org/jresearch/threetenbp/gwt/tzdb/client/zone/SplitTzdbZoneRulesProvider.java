@@ -0,0 +1,101 @@
+package org.jresearch.threetenbp.gwt.tzdb.client.zone;
+
+import java.nio.ByteBuffer;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesException;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Provides time-zone rules for 'TZDB' split into fragments (see
+ * {@link TzdbFragments}). All the region IDs are known up front, the rules
+ * of a fragment are loaded the first time one of its regions is requested.
+ */
+public final class SplitTzdbZoneRulesProvider extends ZoneRulesProvider {
+
+	/**
+	 * All the regions that are available.
+	 */
+	private final Set<String> regionIds;
+	/**
+	 * Loads the data of a fragment by name.
+	 */
+	private final Function<String, ByteBuffer> fragmentLoader;
+	/**
+	 * The loaded fragments by name.
+	 */
+	private final Map<String, TzdbZoneRulesProvider> fragments = new HashMap<>();
+
+	/**
+	 * @param regionIds      - all the region IDs, not null
+	 * @param fragmentLoader - loads the data of a fragment by name, not null
+	 */
+	public SplitTzdbZoneRulesProvider(Collection<String> regionIds, Function<String, ByteBuffer> fragmentLoader) {
+		this.regionIds = new HashSet<>(regionIds);
+		this.fragmentLoader = Objects.requireNonNull(fragmentLoader, "fragmentLoader");
+	}
+
+	/**
+	 * @return true if the fragment is already loaded
+	 */
+	public boolean isLoaded(String fragment) {
+		return fragments.containsKey(fragment);
+	}
+
+	/**
+	 * Loads a fragment from the data fetched in advance, does nothing if the
+	 * fragment is already loaded.
+	 */
+	public void preload(String fragment, ByteBuffer data) {
+		if (!isLoaded(fragment)) {
+			fragments.put(fragment, new TzdbZoneRulesProvider(data));
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	@Override
+	protected Set<String> provideZoneIds() {
+		return new HashSet<String>(regionIds);
+	}
+
+	@Override
+	protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+		Objects.requireNonNull(zoneId, "zoneId");
+		if (!regionIds.contains(zoneId)) {
+			throw new ZoneRulesException("Unknown time-zone ID: " + zoneId);
+		}
+		return fragment(zoneId).provideRules(zoneId, forCaching);
+	}
+
+	@Override
+	protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+		if (!regionIds.contains(zoneId)) {
+			return new TreeMap<String, ZoneRules>();
+		}
+		return fragment(zoneId).provideVersions(zoneId);
+	}
+
+	private TzdbZoneRulesProvider fragment(String zoneId) {
+		String name = TzdbFragments.fragmentOf(zoneId);
+		TzdbZoneRulesProvider provider = fragments.get(name);
+		if (provider == null) {
+			provider = new TzdbZoneRulesProvider(fragmentLoader.apply(name));
+			fragments.put(name, provider);
+		}
+		return provider;
+	}
+
+	@Override
+	public String toString() {
+		return "TZDB";
+	}
+
+}
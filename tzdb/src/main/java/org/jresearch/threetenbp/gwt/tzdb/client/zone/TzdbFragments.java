@@ -0,0 +1,47 @@
+package org.jresearch.threetenbp.gwt.tzdb.client.zone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Groups the TZDB region IDs into the fragments used by the split loader. A
+ * region belongs to the fragment of its area (the part of the ID before the
+ * first '/'), regions of other areas and IDs without an area belong to
+ * {@link #OTHER}.
+ */
+public final class TzdbFragments {
+
+	public static final String OTHER = "Other";
+
+	private static final List<String> AREAS = Arrays.asList("Africa", "America", "Antarctica", "Asia", "Atlantic", "Australia", "Etc", "Europe", "Indian", "Pacific");
+
+	private TzdbFragments() {
+	}
+
+	/**
+	 * @return all the fragment names
+	 */
+	public static List<String> names() {
+		List<String> result = new ArrayList<>(AREAS);
+		result.add(OTHER);
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * @param regionId - the region ID, not null
+	 * @return the name of the fragment holding the region rules
+	 */
+	public static String fragmentOf(String regionId) {
+		int slash = regionId.indexOf('/');
+		if (slash > 0) {
+			String area = regionId.substring(0, slash);
+			if (AREAS.contains(area)) {
+				return area;
+			}
+		}
+		return OTHER;
+	}
+
+}
@@ -40,19 +40,14 @@ import java.time.zone.ZoneRulesException;
 import java.time.zone.ZoneRulesProvider;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 
-import org.gwtproject.nio.TypedArrayHelper;
-import org.gwtproject.typedarrays.client.ArrayBufferNative;
-import org.gwtproject.typedarrays.client.Int8ArrayNative;
-
-import elemental2.core.ArrayBuffer;
-import jsinterop.base.Js;
-
 /**
  * Loads time-zone rules for 'TZDB'.
  * <p>
@@ -71,6 +66,25 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 	 * All the versions that are available.
 	 */
 	private final NavigableMap<String, Version> versions = new TreeMap<String, Version>();
+	/**
+	 * The maximum number of decoded rules ("gwt-time.zone.rulesCacheSize"
+	 * configuration property), zero or less to keep all of them.
+	 */
+	// GWT specific
+	private static final int RULES_CACHE_SIZE = Integer.parseInt(System.getProperty("gwt-time.zone.rulesCacheSize", "64"));
+	/**
+	 * The recently decoded rules by rule index, shared by the versions as they
+	 * share the rule data. The least recently used are evicted.
+	 */
+	// GWT specific
+	private final Map<Integer, ZoneRules> decodedRules = new LinkedHashMap<Integer, ZoneRules>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, ZoneRules> eldest) {
+			return RULES_CACHE_SIZE > 0 && size() > RULES_CACHE_SIZE;
+		}
+	};
 
 	/**
 	 * Creates an instance and loads the specified input stream.
@@ -173,16 +187,15 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		// rules
 		int ruleCount = dis.getShort();
 //		ZoneRules[] ruleArray = new ZoneRules[ruleCount];
-		ArrayBuffer[] ruleArray = new ArrayBuffer[ruleCount];
+		// GWT specific - views over the loaded data, no copy
+		ByteBuffer[] ruleArray = new ByteBuffer[ruleCount];
 		for (int i = 0; i < ruleCount; i++) {
-			short length = dis.getShort();
-			ArrayBufferNative buffer = new ArrayBufferNative(length);
-			Int8ArrayNative array = new Int8ArrayNative(buffer);
-			for (int j = 0; j < length; j++) {
-				array.set(j, dis.get());
-			}
+			int length = dis.getShort() & 0xffff;
+			ByteBuffer rule = dis.slice();
+			rule.limit(length);
+			dis.position(dis.position() + length);
 //			ruleArray[i] = (ZoneRules) Ser.read(dis);
-			ruleArray[i] = Js.cast(buffer);
+			ruleArray[i] = rule;
 		}
 		// link version-region-rules
 		Set<Version> versionSet = new HashSet<Version>(versionCount);
@@ -194,7 +207,7 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 				versionRegionArray[j] = regionArray[dis.getShort()];
 				versionRulesArray[j] = dis.getShort();
 			}
-			versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleArray));
+			versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleArray, decodedRules));
 		}
 		return versionSet;
 	}
@@ -219,12 +232,13 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		private final String versionId;
 		private final String[] regionArray;
 		private final short[] ruleIndices;
-		private final ArrayBuffer[] encodeRuleData;
-		private final ZoneRules[] ruleData;
+		private final ByteBuffer[] encodeRuleData;
+		// GWT specific
+		private final Map<Integer, ZoneRules> decodedRules;
 
-		Version(String versionId, String[] regionIds, short[] ruleIndices, ArrayBuffer[] encodeRuleData) {
+		Version(String versionId, String[] regionIds, short[] ruleIndices, ByteBuffer[] encodeRuleData, Map<Integer, ZoneRules> decodedRules) {
 			this.encodeRuleData = encodeRuleData;
-			this.ruleData = new ZoneRules[encodeRuleData.length];
+			this.decodedRules = decodedRules;
 			this.versionId = versionId;
 			this.regionArray = regionIds;
 			this.ruleIndices = ruleIndices;
@@ -243,15 +257,19 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 			}
 		}
 
+		/**
+		 * Gets the recently decoded rule or decodes it, the number of the kept
+		 * rules is bounded.
+		 */
+		// GWT specific
 		ZoneRules createRule(short index) throws Exception {
-			ZoneRules rule = ruleData[index];
-			if (rule == null) {
-				ArrayBuffer arrayBuffer = encodeRuleData[index];
-				rule = (ZoneRules) Ser.read(TypedArrayHelper.wrap(arrayBuffer));
-				ruleData[index] = rule;
-				encodeRuleData[index] = null;
+			ZoneRules rules = decodedRules.get(Integer.valueOf(index));
+			if (rules == null) {
+				// the views over the loaded data are kept, read from a copy of the position
+				rules = (ZoneRules) Ser.read(encodeRuleData[index].duplicate());
+				decodedRules.put(Integer.valueOf(index), rules);
 			}
-			return rule;
+			return rules;
 		}
 
 		@Override
@@ -0,0 +1,160 @@
+package org.jresearch.threetenbp.gwt.tzdb.rebind;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jresearch.threetenbp.gwt.tzdb.tool.TzdbData;
+
+import com.google.gwt.core.ext.BadPropertyValueException;
+import com.google.gwt.core.ext.Generator;
+import com.google.gwt.core.ext.GeneratorContext;
+import com.google.gwt.core.ext.PropertyOracle;
+import com.google.gwt.core.ext.TreeLogger;
+import com.google.gwt.core.ext.UnableToCompleteException;
+import com.google.gwt.core.ext.typeinfo.JClassType;
+import com.google.gwt.user.rebind.ClassSourceFileComposerFactory;
+import com.google.gwt.user.rebind.SourceWriter;
+
+/**
+ * Generates the {@code TzdbSubset} implementation. The regions are filtered by
+ * the {@code gwt-time.tzdb.include} patterns (exact IDs or prefixes ending
+ * with {@code *}), only the latest version is kept and the transitions before
+ * {@code gwt-time.tzdb.minYear} are removed. The later transitions are always
+ * kept, the offsets of the later years depend on them. The fixed offset regions
+ * ({@code UTC}, {@code Etc/*}, ...) are always kept.
+ */
+public class TzdbSubsetGenerator extends Generator {
+
+	private static final String TZDB_RESOURCE = "org/jresearch/threetenbp/gwt/tzdb/client/loader/TZDB.dat";
+	private static final String INCLUDE_PROPERTY = "gwt-time.tzdb.include";
+	private static final String MIN_YEAR_PROPERTY = "gwt-time.tzdb.minYear";
+	private static final String[] ALWAYS_INCLUDE = { "UTC", "GMT", "UCT", "Universal", "Zulu", "Greenwich", "Etc/*" };
+	/** Keep the generated string literals below the class file constant limit */
+	private static final int CHUNK_SIZE = 16 * 1024;
+
+	@Override
+	public String generate(TreeLogger logger, GeneratorContext context, String typeName) throws UnableToCompleteException {
+		JClassType type = context.getTypeOracle().findType(typeName);
+		if (type == null) {
+			logger.log(TreeLogger.ERROR, "Unable to find metadata for type '" + typeName + "'", null);
+			throw new UnableToCompleteException();
+		}
+		String packageName = type.getPackage().getName();
+		String className = type.getSimpleSourceName() + "Impl";
+
+		PrintWriter printWriter = context.tryCreate(logger, packageName, className);
+		if (printWriter == null) {
+			// already generated
+			return packageName + '.' + className;
+		}
+
+		PropertyOracle properties = context.getPropertyOracle();
+		List<String> includes = getValues(properties, INCLUDE_PROPERTY);
+		String minYear = getValue(properties, MIN_YEAR_PROPERTY);
+		String encoded = null;
+		if (!includes.isEmpty() || minYear != null) {
+			encoded = createSubset(logger, includes, minYear);
+		}
+
+		ClassSourceFileComposerFactory composer = new ClassSourceFileComposerFactory(packageName, className);
+		composer.addImplementedInterface(type.getQualifiedSourceName());
+		SourceWriter writer = composer.createSourceWriter(context, printWriter);
+		writer.println("@Override");
+		writer.println("public boolean isSubset() {");
+		writer.indent();
+		writer.println("return " + (encoded != null) + ";");
+		writer.outdent();
+		writer.println("}");
+		writer.println();
+		writer.println("@Override");
+		writer.println("public String tzdbEncoded() {");
+		writer.indent();
+		if (encoded == null) {
+			writer.println("return null;");
+		} else {
+			writer.println("return new StringBuilder(" + encoded.length() + ")");
+			writer.indent();
+			for (int i = 0; i < encoded.length(); i += CHUNK_SIZE) {
+				writer.println(".append(\"" + encoded.substring(i, Math.min(i + CHUNK_SIZE, encoded.length())) + "\")");
+			}
+			writer.println(".toString();");
+			writer.outdent();
+		}
+		writer.outdent();
+		writer.println("}");
+		writer.commit(logger);
+		return composer.getCreatedClassName();
+	}
+
+	private static String createSubset(TreeLogger logger, List<String> includes, String minYear) throws UnableToCompleteException {
+		try (InputStream in = TzdbSubsetGenerator.class.getClassLoader().getResourceAsStream(TZDB_RESOURCE)) {
+			if (in == null) {
+				logger.log(TreeLogger.ERROR, "Unable to find " + TZDB_RESOURCE, null);
+				throw new UnableToCompleteException();
+			}
+			TzdbData data = TzdbData.read(new DataInputStream(in)).latestVersion();
+			if (!includes.isEmpty()) {
+				List<String> patterns = new ArrayList<>(includes);
+				for (String pattern : ALWAYS_INCLUDE) {
+					patterns.add(pattern);
+				}
+				data = data.subset(matcher(patterns));
+			}
+			long minEpochSecond = minYear == null ? Long.MIN_VALUE : LocalDate.of(parseYear(logger, MIN_YEAR_PROPERTY, minYear), 1, 1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+			byte[] bytes = data.trim(minEpochSecond).toByteArray();
+			logger.log(TreeLogger.INFO, "TZDB subset: " + data.getRegions().size() + " regions, " + bytes.length + " bytes", null);
+			return Base64.getEncoder().encodeToString(bytes);
+		} catch (IOException e) {
+			logger.log(TreeLogger.ERROR, "Unable to create the TZDB subset", e);
+			throw new UnableToCompleteException();
+		}
+	}
+
+	private static Predicate<String> matcher(List<String> patterns) {
+		return regionId -> {
+			for (String pattern : patterns) {
+				if (pattern.endsWith("*") ? regionId.startsWith(pattern.substring(0, pattern.length() - 1)) : regionId.equals(pattern)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	private static int parseYear(TreeLogger logger, String name, String value) throws UnableToCompleteException {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			logger.log(TreeLogger.ERROR, "Invalid value of " + name + ": " + value, e);
+			throw new UnableToCompleteException();
+		}
+	}
+
+	private static List<String> getValues(PropertyOracle properties, String name) {
+		List<String> values = new ArrayList<>();
+		try {
+			for (String value : properties.getConfigurationProperty(name).getValues()) {
+				if (value != null && !value.trim().isEmpty()) {
+					values.add(value.trim());
+				}
+			}
+		} catch (BadPropertyValueException e) {
+			// not defined, no values
+		}
+		return values;
+	}
+
+	private static String getValue(PropertyOracle properties, String name) {
+		List<String> values = getValues(properties, name);
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+}
@@ -0,0 +1,169 @@
+package org.jresearch.threetenbp.gwt.tzdb.tool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Build time model of the compiled TZDB data (the {@code TZDB.dat} format
+ * read by {@code TzdbZoneRulesProvider}). The rules are kept as the
+ * serialized bytes.
+ */
+public final class TzdbData {
+
+	private final String[] versions;
+	private final String[] regions;
+	private final byte[][] rules;
+	/** Per version: pairs of region index and rule index */
+	private final int[][][] links;
+
+	private TzdbData(String[] versions, String[] regions, byte[][] rules, int[][][] links) {
+		this.versions = versions;
+		this.regions = regions;
+		this.rules = rules;
+		this.links = links;
+	}
+
+	public static TzdbData read(DataInput dis) throws IOException {
+		if (dis.readByte() != 1 || !"TZDB".equals(dis.readUTF())) {
+			throw new IOException("File format not recognised");
+		}
+		int versionCount = dis.readShort();
+		String[] versionArray = new String[versionCount];
+		for (int i = 0; i < versionCount; i++) {
+			versionArray[i] = dis.readUTF();
+		}
+		int regionCount = dis.readShort();
+		String[] regionArray = new String[regionCount];
+		for (int i = 0; i < regionCount; i++) {
+			regionArray[i] = dis.readUTF();
+		}
+		int ruleCount = dis.readShort();
+		byte[][] ruleArray = new byte[ruleCount][];
+		for (int i = 0; i < ruleCount; i++) {
+			ruleArray[i] = new byte[dis.readShort() & 0xffff];
+			dis.readFully(ruleArray[i]);
+		}
+		int[][][] linkArray = new int[versionCount][][];
+		for (int i = 0; i < versionCount; i++) {
+			int versionRegionCount = dis.readShort();
+			linkArray[i] = new int[versionRegionCount][];
+			for (int j = 0; j < versionRegionCount; j++) {
+				linkArray[i][j] = new int[] { dis.readShort(), dis.readShort() };
+			}
+		}
+		return new TzdbData(versionArray, regionArray, ruleArray, linkArray);
+	}
+
+	public byte[] toByteArray() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(1);
+		out.writeUTF("TZDB");
+		out.writeShort(versions.length);
+		for (String version : versions) {
+			out.writeUTF(version);
+		}
+		out.writeShort(regions.length);
+		for (String region : regions) {
+			out.writeUTF(region);
+		}
+		out.writeShort(rules.length);
+		for (byte[] rule : rules) {
+			out.writeShort(rule.length);
+			out.write(rule);
+		}
+		for (int[][] versionLinks : links) {
+			out.writeShort(versionLinks.length);
+			for (int[] link : versionLinks) {
+				out.writeShort(link[0]);
+				out.writeShort(link[1]);
+			}
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	public List<String> getRegions() {
+		return Arrays.asList(regions);
+	}
+
+	/**
+	 * @return the data with the regions matching the filter only, the regions
+	 *         keep their (sorted) order
+	 */
+	public TzdbData subset(Predicate<String> regionFilter) {
+		// old index -> new index
+		Map<Integer, Integer> regionMap = new LinkedHashMap<>();
+		for (int i = 0; i < regions.length; i++) {
+			if (regionFilter.test(regions[i])) {
+				regionMap.put(i, regionMap.size());
+			}
+		}
+		Map<Integer, Integer> ruleMap = new LinkedHashMap<>();
+		int[][][] newLinks = new int[versions.length][][];
+		for (int i = 0; i < versions.length; i++) {
+			List<int[]> versionLinks = new ArrayList<>();
+			for (int[] link : links[i]) {
+				Integer region = regionMap.get(link[0]);
+				if (region != null) {
+					Integer rule = ruleMap.computeIfAbsent(link[1], k -> ruleMap.size());
+					versionLinks.add(new int[] { region, rule });
+				}
+			}
+			newLinks[i] = versionLinks.toArray(new int[versionLinks.size()][]);
+		}
+		String[] newRegions = regionMap.keySet().stream().map(i -> regions[i]).toArray(String[]::new);
+		byte[][] newRules = ruleMap.keySet().stream().map(i -> rules[i]).toArray(byte[][]::new);
+		return new TzdbData(versions, newRegions, newRules, newLinks);
+	}
+
+	/**
+	 * @return the data of the latest version only, the rules loaded by
+	 *         {@code ZoneRulesProvider.getRules}
+	 */
+	public TzdbData latestVersion() {
+		if (versions.length <= 1) {
+			return this;
+		}
+		int latest = 0;
+		for (int i = 1; i < versions.length; i++) {
+			if (versions[i].compareTo(versions[latest]) > 0) {
+				latest = i;
+			}
+		}
+		TzdbData single = new TzdbData(new String[] { versions[latest] }, regions, rules, new int[][][] { links[latest] });
+		// drop the regions and rules not used by the latest version
+		boolean[] used = new boolean[regions.length];
+		for (int[] link : links[latest]) {
+			used[link[0]] = true;
+		}
+		List<String> usedRegions = new ArrayList<>();
+		for (int i = 0; i < regions.length; i++) {
+			if (used[i]) {
+				usedRegions.add(regions[i]);
+			}
+		}
+		return single.subset(usedRegions::contains);
+	}
+
+	/**
+	 * @return the data with the historical transitions before the epoch second
+	 *         removed from every rule
+	 */
+	public TzdbData trim(long minEpochSecond) throws IOException {
+		byte[][] newRules = new byte[rules.length][];
+		for (int i = 0; i < rules.length; i++) {
+			newRules[i] = TzdbRulesTrimmer.trim(rules[i], minEpochSecond);
+		}
+		return new TzdbData(versions, regions, newRules, links);
+	}
+
+}
@@ -0,0 +1,105 @@
+package org.jresearch.threetenbp.gwt.tzdb.tool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Removes historical transitions from serialized {@code StandardZoneRules}.
+ * The offset in force at the range start becomes the initial offset. The
+ * later transitions and the last rules are kept as is, the last rules only
+ * apply after the last transition, so the offsets of the later dates don't
+ * change.
+ */
+final class TzdbRulesTrimmer {
+
+	/** Type for StandardZoneRules, see Ser */
+	private static final byte SZR = 1;
+
+	private TzdbRulesTrimmer() {
+	}
+
+	static byte[] trim(byte[] rule, long minEpochSecond) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(rule));
+		if (in.readByte() != SZR) {
+			// not a standard rule, keep it
+			return rule;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(rule.length);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeByte(SZR);
+		// standard and savings transitions have the same layout
+		trimTransitions(in, out, minEpochSecond);
+		trimTransitions(in, out, minEpochSecond);
+		// last rules
+		int rest = in.available();
+		byte[] lastRules = new byte[rest];
+		in.readFully(lastRules);
+		out.write(lastRules);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void trimTransitions(DataInputStream in, DataOutputStream out, long minEpochSecond) throws IOException {
+		int size = in.readInt();
+		long[] trans = new long[size];
+		for (int i = 0; i < size; i++) {
+			trans[i] = readEpochSec(in);
+		}
+		int[] offsets = new int[size + 1];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = readOffset(in);
+		}
+		int from = 0;
+		while (from < size && trans[from] < minEpochSecond) {
+			from++;
+		}
+		out.writeInt(size - from);
+		for (int i = from; i < size; i++) {
+			writeEpochSec(trans[i], out);
+		}
+		// offsets[i] is in force before trans[i], offsets[i + 1] after it
+		for (int i = from; i <= size; i++) {
+			writeOffset(offsets[i], out);
+		}
+	}
+
+	private static long readEpochSec(DataInputStream in) throws IOException {
+		int hiByte = in.readByte() & 255;
+		if (hiByte == 255) {
+			return in.readLong();
+		}
+		int midByte = in.readByte() & 255;
+		int loByte = in.readByte() & 255;
+		long tot = ((hiByte << 16) + (midByte << 8) + loByte);
+		return (tot * 900) - 4575744000L;
+	}
+
+	private static void writeEpochSec(long epochSec, DataOutputStream out) throws IOException {
+		if (epochSec >= -4575744000L && epochSec < 10413792000L && epochSec % 900 == 0) { // quarter hours between 1825 and 2300
+			int store = (int) ((epochSec + 4575744000L) / 900);
+			out.writeByte((store >>> 16) & 255);
+			out.writeByte((store >>> 8) & 255);
+			out.writeByte(store & 255);
+		} else {
+			out.writeByte(255);
+			out.writeLong(epochSec);
+		}
+	}
+
+	private static int readOffset(DataInputStream in) throws IOException {
+		int offsetByte = in.readByte();
+		return offsetByte == 127 ? in.readInt() : offsetByte * 900;
+	}
+
+	private static void writeOffset(int offsetSecs, DataOutputStream out) throws IOException {
+		int offsetByte = offsetSecs % 900 == 0 ? offsetSecs / 900 : 127; // compress to -72 to +72
+		out.writeByte(offsetByte);
+		if (offsetByte == 127) {
+			out.writeInt(offsetSecs);
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+package org.jresearch.threetenbp.gwt.tzdb.tool;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jresearch.threetenbp.gwt.tzdb.client.zone.TzdbFragments;
+
+/**
+ * Build tool, splits the compiled TZDB data into the files used by the
+ * {@code split} loader:
+ * <ul>
+ * <li>{@code TZDB-index.txt} - all the region IDs, one per line</li>
+ * <li>{@code TZDB-<fragment>.dat} - the rules of the fragment regions, in the
+ * same format as {@code TZDB.dat}</li>
+ * </ul>
+ * Usage: {@code TzdbSplitter <TZDB.dat> <output directory>}
+ */
+public final class TzdbSplitter {
+
+	private TzdbSplitter() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: TzdbSplitter <TZDB.dat> <output directory>");
+			System.exit(1);
+		}
+		Path output = Paths.get(args[1]);
+		try (InputStream in = Files.newInputStream(Paths.get(args[0]))) {
+			split(new DataInputStream(in), output);
+		}
+	}
+
+	private static void split(DataInputStream dis, Path output) throws IOException {
+		TzdbData data = TzdbData.read(dis);
+		try (Writer index = Files.newBufferedWriter(output.resolve("TZDB-index.txt"), StandardCharsets.UTF_8)) {
+			for (String regionId : data.getRegions()) {
+				index.write(regionId);
+				index.write('\n');
+			}
+		}
+		for (String fragment : TzdbFragments.names()) {
+			TzdbData fragmentData = data.subset(regionId -> fragment.equals(TzdbFragments.fragmentOf(regionId)));
+			Files.write(output.resolve("TZDB-" + fragment + ".dat"), fragmentData.toByteArray());
+		}
+	}
+
+}
@@ -45,6 +45,43 @@ var Base64Binary = {
 		return ab;
 	},
 
+	/* strips non base64 characters and the trailing padding, the result is accepted by decodeSlice */
+	normalize: function(input) {
+		input = input.replace(/[^A-Za-z0-9\+\/\=]/g, "");
+		input = this.removePaddingChars(input);
+		return this.removePaddingChars(input);
+	},
+
+	/* will return the count of bytes encoded by a normalized input */
+	decodedLength: function(input) {
+		return parseInt((input.length / 4) * 3, 10);
+	},
+
+	/* decodes the bytes [from, to) of a normalized input into the array buffer, from must be a multiple of 3 */
+	decodeSlice: function(input, arrayBuffer, from, to) {
+		var uarray = new Uint8Array(arrayBuffer);
+		var bytes = Math.min(to, uarray.length);
+		var chr1, chr2, chr3;
+		var enc1, enc2, enc3, enc4;
+		var i;
+		var j = (from / 3) * 4;
+
+		for (i=from; i<bytes; i+=3) {
+			enc1 = this._keyStr.indexOf(input.charAt(j++));
+			enc2 = this._keyStr.indexOf(input.charAt(j++));
+			enc3 = this._keyStr.indexOf(input.charAt(j++));
+			enc4 = this._keyStr.indexOf(input.charAt(j++));
+
+			chr1 = (enc1 << 2) | (enc2 >> 4);
+			chr2 = ((enc2 & 15) << 4) | (enc3 >> 2);
+			chr3 = ((enc3 & 3) << 6) | enc4;
+
+			uarray[i] = chr1;
+			if (enc3 != 64 && i+1 < bytes) uarray[i+1] = chr2;
+			if (enc4 != 64 && i+2 < bytes) uarray[i+2] = chr3;
+		}
+	},
+
 	removePaddingChars: function(input){
 		var lkey = this._keyStr.indexOf(input.charAt(input.length - 1));
 		if(lkey == 64){
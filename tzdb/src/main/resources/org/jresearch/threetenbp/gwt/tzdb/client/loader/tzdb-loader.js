@@ -0,0 +1,48 @@
+/**
+ * Loads the binary TZDB data (TZDB.dat) as an ArrayBuffer
+ * either asynchronously (fetchArrayBuffer)
+ * or synchronously (loadArrayBuffer)
+ */
+
+var TzdbLoader = {
+
+	/* calls onSuccess with the ArrayBuffer or onFailure with a message */
+	fetchArrayBuffer: function(url, onSuccess, onFailure) {
+		var xhr = new XMLHttpRequest();
+		xhr.open('GET', url, true);
+		xhr.responseType = 'arraybuffer';
+		xhr.onload = function() {
+			if ((xhr.status == 200 || xhr.status == 0) && xhr.response) {
+				onSuccess(xhr.response);
+			} else {
+				onFailure("Unable to load " + url + ", status " + xhr.status);
+			}
+		};
+		xhr.onerror = function() {
+			onFailure("Unable to load " + url);
+		};
+		xhr.send();
+	},
+
+	/* will return the ArrayBuffer or null, a synchronous request can't use responseType */
+	loadArrayBuffer: function(url) {
+		try {
+			var xhr = new XMLHttpRequest();
+			xhr.open('GET', url, false);
+			xhr.overrideMimeType('text/plain; charset=x-user-defined');
+			xhr.send();
+			if (xhr.status != 200 && xhr.status != 0) {
+				return null;
+			}
+			var text = xhr.responseText;
+			var uarray = new Uint8Array(text.length);
+			for (var i = 0; i < text.length; i++) {
+				uarray[i] = text.charCodeAt(i) & 0xff;
+			}
+			return uarray.buffer;
+		} catch (e) {
+			console.error("Error while loading %s: %s", url, e);
+			return null;
+		}
+	}
+}
@@ -14,4 +14,15 @@ public class GwtTest extends AbstractTest {
 		ZoneId.of("Europe/Paris");
 	}
 
+	@Test
+	public void testTzdbProviderAsyncInit() {
+		Support.registerGwtZoneRuleProvider(new GwtTzdbZoneRuleProvider());
+		delayTestFinish(10000);
+		Support.initTzDataAsync(() -> {
+			assertTrue(Support.isTzTnitialized());
+			assertNotNull(ZoneId.of("Europe/Paris"));
+			finishTest();
+		});
+	}
+
 }
@@ -1,8 +1,13 @@
 package org.jresearch.threetenbp.gwt.tzdb.client;
 
+import java.nio.ByteBuffer;
+
+import org.gwtproject.nio.TypedArrayHelper;
 import org.gwtproject.typedarrays.shared.Uint8Array;
 import org.junit.Test;
 
+import elemental2.core.ArrayBuffer;
+
 
 @SuppressWarnings({ "static-method", "nls" })
 public class GwtTzdbJsTest extends AbstractTest {
@@ -20,4 +25,21 @@ public class GwtTzdbJsTest extends AbstractTest {
 		assertEquals(0x75, data.get(5));
 	}
 
+	@Test
+	public void testDecodeSlice() {
+		String normalized = TzdbJs.normalize("VGhlIHF1aWNr\n");
+		assertEquals("VGhlIHF1aWNr", normalized);
+		int length = TzdbJs.decodedLength(normalized);
+		assertEquals(9, length);
+		ArrayBuffer buffer = new ArrayBuffer(length);
+		TzdbJs.decodeSlice(normalized, buffer, 0, 6);
+		TzdbJs.decodeSlice(normalized, buffer, 6, 9);
+		ByteBuffer data = TypedArrayHelper.wrap(buffer);
+		assertEquals(0x54, data.get(0));
+		assertEquals(0x20, data.get(3));
+		assertEquals(0x75, data.get(5));
+		assertEquals(0x69, data.get(6));
+		assertEquals(0x6B, data.get(8));
+	}
+
 }